@@ -0,0 +1,90 @@
+/**
+ * Copyright (c) 2010-2023 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.worxlandroid.internal;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.openhab.binding.worxlandroid.internal.api.WebApiException;
+import org.openhab.binding.worxlandroid.internal.api.WorxApiDeserializer;
+import org.openhab.binding.worxlandroid.internal.api.dto.Payload;
+import org.openhab.binding.worxlandroid.internal.api.dto.ProductItemStatus;
+
+import com.google.gson.FieldNamingPolicy;
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonDeserializer;
+import com.google.gson.JsonPrimitive;
+
+/**
+ * The {@link RecordedPayloads} gives the benchmarks access to the payloads recorded in the test resources.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class RecordedPayloads {
+    public static final String MOWING = "payload-mowing.json";
+    public static final String HOME = "payload-home.json";
+    public static final String ERROR = "payload-error.json";
+    public static final String PRODUCT_ITEMS = "product-items.json";
+
+    private static final ZoneId ZONE = ZoneId.of("Europe/Paris");
+    private static final DateTimeFormatter WORX_FORMATTER = DateTimeFormatter.ofPattern("uuuu-MM-dd HH:mm:ssX");
+    private static final String RESOURCE_PATH = "/org/openhab/binding/worxlandroid/internal/api/dto/";
+
+    public static byte[] load(String name) {
+        try (InputStream stream = RecordedPayloads.class.getResourceAsStream(RESOURCE_PATH + name)) {
+            if (stream == null) {
+                throw new IllegalArgumentException("Unknown recorded payload " + name);
+            }
+            return stream.readAllBytes();
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    public static WorxApiDeserializer deserializer() {
+        return new WorxApiDeserializer(() -> ZONE);
+    }
+
+    /**
+     * @return the reflective Gson configuration used before the streaming adapters, as a reference
+     */
+    public static Gson reflectiveGson() {
+        return new GsonBuilder().setFieldNamingPolicy(FieldNamingPolicy.LOWER_CASE_WITH_UNDERSCORES)
+                .registerTypeAdapter(ZoneId.class,
+                        (JsonDeserializer<ZoneId>) (json, type, context) -> ZoneId
+                                .of(json.getAsJsonPrimitive().getAsString()))
+                .registerTypeAdapter(ZonedDateTime.class,
+                        (JsonDeserializer<ZonedDateTime>) (json, type, context) -> ZonedDateTime
+                                .parse(json.getAsJsonPrimitive().getAsString() + "Z", WORX_FORMATTER)
+                                .withZoneSameInstant(ZONE))
+                .registerTypeAdapter(boolean.class, (JsonDeserializer<Boolean>) (json, type, context) -> {
+                    JsonPrimitive value = json.getAsJsonPrimitive();
+                    return value.isBoolean() ? value.getAsBoolean() : "1".equals(value.getAsString());
+                }).create();
+    }
+
+    public static Payload payload(WorxApiDeserializer deserializer, String name) throws WebApiException {
+        return deserializer.deserialize(Payload.class, load(name));
+    }
+
+    public static ProductItemStatus product(WorxApiDeserializer deserializer) throws WebApiException {
+        ProductItemStatus[] products = deserializer.deserialize(ProductItemStatus[].class, load(PRODUCT_ITEMS));
+        return products[0];
+    }
+}
@@ -0,0 +1,100 @@
+/**
+ * Copyright (c) 2010-2023 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.worxlandroid.internal.api;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.openhab.binding.worxlandroid.internal.RecordedPayloads;
+import org.openhab.binding.worxlandroid.internal.api.dto.Payload;
+import org.openhab.binding.worxlandroid.internal.api.dto.ProductItemStatus;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.google.gson.Gson;
+
+/**
+ * Measures the decoding of recorded MQTT payloads and product items by {@link WorxApiDeserializer}, compared with
+ * the reflective Gson configuration it used before its streaming adapters.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class DeserializeBenchmark {
+    @Param({ RecordedPayloads.MOWING, RecordedPayloads.HOME, RecordedPayloads.ERROR })
+    public @NonNullByDefault({}) String payloadName;
+
+    private @NonNullByDefault({}) WorxApiDeserializer deserializer;
+    private @NonNullByDefault({}) Gson reflective;
+    private byte[] payload = new byte[0];
+    private String payloadString = "";
+    private byte[] productItems = new byte[0];
+
+    @Setup
+    public void setUp() {
+        deserializer = RecordedPayloads.deserializer();
+        reflective = RecordedPayloads.reflectiveGson();
+        payload = RecordedPayloads.load(payloadName);
+        payloadString = new String(payload, StandardCharsets.UTF_8);
+        productItems = RecordedPayloads.load(RecordedPayloads.PRODUCT_ITEMS);
+    }
+
+    @Benchmark
+    public Payload payloadFromBytes() throws WebApiException {
+        return deserializer.deserialize(Payload.class, payload);
+    }
+
+    @Benchmark
+    public Payload payloadFromString() throws WebApiException {
+        return deserializer.deserialize(Payload.class, payloadString);
+    }
+
+    @Benchmark
+    public ProductItemStatus[] productItems() throws WebApiException {
+        return deserializer.deserialize(ProductItemStatus[].class, productItems);
+    }
+
+    @Benchmark
+    public Payload payloadReflective() throws IOException {
+        try (Reader reader = new InputStreamReader(new ByteArrayInputStream(payload), StandardCharsets.UTF_8)) {
+            return reflective.fromJson(reader, Payload.class);
+        }
+    }
+
+    @Benchmark
+    public ProductItemStatus[] productItemsReflective() throws IOException {
+        try (Reader reader = new InputStreamReader(new ByteArrayInputStream(productItems), StandardCharsets.UTF_8)) {
+            return reflective.fromJson(reader, ProductItemStatus[].class);
+        }
+    }
+}
@@ -0,0 +1,92 @@
+/**
+ * Copyright (c) 2010-2023 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.worxlandroid.internal.handler;
+
+import static org.mockito.Mockito.*;
+import static org.openhab.binding.worxlandroid.internal.WorxLandroidBindingConstants.THING_TYPE_MOWER;
+
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.openhab.binding.worxlandroid.internal.RecordedPayloads;
+import org.openhab.binding.worxlandroid.internal.api.WebApiException;
+import org.openhab.binding.worxlandroid.internal.api.WorxApiDeserializer;
+import org.openhab.binding.worxlandroid.internal.vo.Mower;
+import org.openhab.core.thing.ChannelUID;
+import org.openhab.core.thing.Thing;
+import org.openhab.core.thing.ThingUID;
+import org.openhab.core.thing.binding.ThingHandlerCallback;
+import org.openhab.core.thing.binding.builder.ThingBuilder;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the channel updates done by {@link WorxLandroidMowerHandler} for each received status. All channels are
+ * considered linked and the framework callback does nothing. Statuses alternate so that states really change,
+ * except in {@link #unchangedStatus()} where the handler only compares them with the last published ones.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MowerHandlerBenchmark {
+    private @NonNullByDefault({}) WorxLandroidMowerHandler handler;
+    private @NonNullByDefault({}) Mower mowing;
+    private @NonNullByDefault({}) Mower home;
+    private boolean toggle;
+
+    @Setup
+    public void setUp() throws WebApiException {
+        WorxApiDeserializer deserializer = RecordedPayloads.deserializer();
+        Mower mower = new Mower(RecordedPayloads.product(deserializer));
+        mowing = mower.withStatus(RecordedPayloads.payload(deserializer, RecordedPayloads.MOWING));
+        home = mower.withStatus(RecordedPayloads.payload(deserializer, RecordedPayloads.HOME));
+
+        Thing thing = ThingBuilder.create(THING_TYPE_MOWER, new ThingUID(THING_TYPE_MOWER, "benchmark")).build();
+        handler = new WorxLandroidMowerHandler(thing, deserializer) {
+            @Override
+            public boolean isLinked(ChannelUID channelUID) {
+                return true;
+            }
+        };
+        // Invocations are not recorded, the callback costs a virtual call
+        handler.setCallback(mock(ThingHandlerCallback.class, withSettings().stubOnly()));
+    }
+
+    @Benchmark
+    public void changedStatus() {
+        toggle = !toggle;
+        Mower theMower = toggle ? mowing : home;
+        handler.updateStateCfg(theMower);
+        handler.updateStateDat(theMower);
+    }
+
+    @Benchmark
+    public void unchangedStatus() {
+        handler.updateStateCfg(mowing);
+        handler.updateStateDat(mowing);
+    }
+}
@@ -0,0 +1,109 @@
+/**
+ * Copyright (c) 2010-2023 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.worxlandroid.internal.handler;
+
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.openhab.binding.worxlandroid.internal.RecordedPayloads;
+import org.openhab.binding.worxlandroid.internal.api.WebApiException;
+import org.openhab.binding.worxlandroid.internal.api.WorxApiDeserializer;
+import org.openhab.binding.worxlandroid.internal.api.dto.Commands.MowerCommand;
+import org.openhab.binding.worxlandroid.internal.api.dto.Commands.OneTimeCommand;
+import org.openhab.binding.worxlandroid.internal.api.dto.Commands.ScheduleDaysCommand;
+import org.openhab.binding.worxlandroid.internal.api.dto.Commands.SetRainDelay;
+import org.openhab.binding.worxlandroid.internal.codes.WorxLandroidActionCodes;
+import org.openhab.binding.worxlandroid.internal.vo.Mower;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the serialization of the commands sent to a mower and their way through the {@link CommandQueue}, up to
+ * the message handed to the publisher.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PublishBenchmark {
+    private @NonNullByDefault({}) WorxApiDeserializer deserializer;
+    private @NonNullByDefault({}) ScheduleDaysCommand scheduleDays;
+    private @NonNullByDefault({}) ScheduledExecutorService scheduler;
+    private @NonNullByDefault({}) CommandQueue immediateQueue;
+    private @NonNullByDefault({}) CommandQueue mergingQueue;
+    private String published = "";
+
+    @Setup
+    public void setUp() throws WebApiException {
+        deserializer = RecordedPayloads.deserializer();
+        Mower mower = new Mower(RecordedPayloads.product(deserializer))
+                .withStatus(RecordedPayloads.payload(deserializer, RecordedPayloads.HOME));
+        scheduleDays = new ScheduleDaysCommand(mower.getTimeExtension(), mower.getScheduleJson1(),
+                mower.getScheduleJson2());
+        scheduler = Executors.newSingleThreadScheduledExecutor();
+        immediateQueue = new CommandQueue(scheduler, 0, this::publish);
+        // The window is never reached, the pending document is flushed by the benchmark
+        mergingQueue = new CommandQueue(scheduler, TimeUnit.HOURS.toMillis(1), this::publish);
+    }
+
+    @TearDown
+    public void tearDown() {
+        scheduler.shutdownNow();
+    }
+
+    private boolean publish(String message, boolean background) {
+        published = message;
+        return true;
+    }
+
+    @Benchmark
+    public String scheduleDaysToJson() {
+        return deserializer.toJson(scheduleDays);
+    }
+
+    @Benchmark
+    public String actionToJson() {
+        return deserializer.toJson(new MowerCommand(WorxLandroidActionCodes.START));
+    }
+
+    @Benchmark
+    public String actionPublished() {
+        immediateQueue.submit(deserializer.toJsonObject(new MowerCommand(WorxLandroidActionCodes.START)), false);
+        return published;
+    }
+
+    @Benchmark
+    public String mergedCommandsPublished() {
+        mergingQueue.submit(deserializer.toJsonObject(scheduleDays), false);
+        mergingQueue.submit(deserializer.toJsonObject(new OneTimeCommand(1, 30)), false);
+        mergingQueue.submit(deserializer.toJsonObject(new SetRainDelay(120)), true);
+        mergingQueue.flush();
+        return published;
+    }
+}
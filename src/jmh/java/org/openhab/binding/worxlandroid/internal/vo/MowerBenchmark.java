@@ -0,0 +1,72 @@
+/**
+ * Copyright (c) 2010-2023 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.worxlandroid.internal.vo;
+
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.openhab.binding.worxlandroid.internal.RecordedPayloads;
+import org.openhab.binding.worxlandroid.internal.api.WebApiException;
+import org.openhab.binding.worxlandroid.internal.api.WorxApiDeserializer;
+import org.openhab.binding.worxlandroid.internal.api.dto.Payload;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the creation of a {@link Mower} snapshot from a received status, with an unchanged schedule and with a
+ * schedule to recompile.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MowerBenchmark {
+    private @NonNullByDefault({}) Mower mower;
+    private @NonNullByDefault({}) Payload mowing;
+    private @NonNullByDefault({}) Payload home;
+    private @NonNullByDefault({}) Payload disabled;
+    private boolean toggle;
+
+    @Setup
+    public void setUp() throws WebApiException {
+        WorxApiDeserializer deserializer = RecordedPayloads.deserializer();
+        mower = new Mower(RecordedPayloads.product(deserializer));
+        mowing = RecordedPayloads.payload(deserializer, RecordedPayloads.MOWING);
+        home = RecordedPayloads.payload(deserializer, RecordedPayloads.HOME);
+        disabled = RecordedPayloads.payload(deserializer, RecordedPayloads.ERROR);
+    }
+
+    @Benchmark
+    public Mower withSameSchedule() {
+        return mower.withStatus(mowing);
+    }
+
+    @Benchmark
+    public Mower withChangedSchedule() {
+        toggle = !toggle;
+        return mower.withStatus(toggle ? home : disabled);
+    }
+}
@@ -12,7 +12,9 @@
  */
 package org.openhab.binding.worxlandroid.internal;
 
+import java.util.List;
 import java.util.Set;
+import java.util.stream.IntStream;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.openhab.core.thing.ThingTypeUID;
@@ -46,6 +48,8 @@ public class WorxLandroidBindingConstants {
     public static final String GROUP_RAIN = "rain";
     public static final String GROUP_WIFI = "wifi";
     public static final String GROUP_AWS = "aws";
+    public static final String GROUP_RATE_LIMIT = "rate-limit";
+    public static final String GROUP_SESSION = "session";
 
     // List channel ids
     // common
@@ -59,6 +63,18 @@ public class WorxLandroidBindingConstants {
     // AWS
     public static final String CHANNEL_POLL = "poll";
     public static final String CHANNEL_CONNECTED = "connected";
+    public static final String CHANNEL_RECONNECT_ATTEMPTS = "reconnect-attempts";
+    public static final String CHANNEL_NEXT_RETRY = "next-retry";
+
+    // Rate limit
+    public static final String CHANNEL_MQTT_TOKENS = "mqtt-tokens";
+    public static final String CHANNEL_API_TOKENS = "api-tokens";
+
+    // Session
+    public static final String CHANNEL_ACTIVE = "active";
+    public static final String CHANNEL_SESSION_START = "start";
+    public static final String CHANNEL_BATTERY_CONSUMED = "battery-consumed";
+    public static final String CHANNEL_ZONE = "zone";
 
     // cfgCommon
     public static final String CHANNEL_TIMESTAMP = "timestamp";
@@ -70,6 +86,7 @@ public class WorxLandroidBindingConstants {
     public static final String CHANNEL_MODE = "mode";
     public static final String CHANNEL_START = "next-start";
     public static final String CHANNEL_STOP = "next-stop";
+    public static final String CHANNEL_TIMELINE = "timeline";
 
     // cfgScXXXday
     public static final String CHANNEL_DURATION = "duration";
@@ -108,4 +125,10 @@ public class WorxLandroidBindingConstants {
     //
     public static final String CHANNEL_PREFIX_ALLOCATION = "allocation-%d";
     public static final String CHANNEL_PREFIX_ZONE = "zone-%d";
+
+    // Precomputed multi-zones channel ids, indexed by zone (resp. allocation) index
+    public static final List<String> CHANNEL_ZONES = IntStream.rangeClosed(1, 4)
+            .mapToObj(CHANNEL_PREFIX_ZONE::formatted).toList();
+    public static final List<String> CHANNEL_ALLOCATIONS = IntStream.range(0, 10)
+            .mapToObj(CHANNEL_PREFIX_ALLOCATION::formatted).toList();
 }
@@ -18,8 +18,10 @@ import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.net.URL;
-import java.nio.charset.StandardCharsets;
+import java.util.Enumeration;
+import java.util.HashMap;
 import java.util.Locale;
+import java.util.Map;
 import java.util.Set;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
@@ -49,11 +51,14 @@ public class WorxLandroidIconProvider implements IconProvider {
     private final Logger logger = LoggerFactory.getLogger(WorxLandroidIconProvider.class);
     private final BundleContext context;
     private final TranslationProvider i18nProvider;
+    // SVG content of each icon, keyed by file name: category or category-state
+    private final Map<String, byte[]> icons;
 
     @Activate
     public WorxLandroidIconProvider(final BundleContext context, final @Reference TranslationProvider i18nProvider) {
         this.context = context;
         this.i18nProvider = i18nProvider;
+        this.icons = loadIcons();
     }
 
     @Override
@@ -80,7 +85,7 @@ public class WorxLandroidIconProvider implements IconProvider {
 
     @Override
     public @Nullable Integer hasIcon(String category, String iconSetId, Format format) {
-        return /* ICONS.contains(category) && */ iconSetId.equals(BINDING_ID) && format == Format.SVG ? 0 : null;
+        return icons.containsKey(category) && iconSetId.equals(BINDING_ID) && format == Format.SVG ? 0 : null;
     }
 
     public @Nullable InputStream getIcon(String category, String state) {
@@ -89,35 +94,35 @@ public class WorxLandroidIconProvider implements IconProvider {
 
     @Override
     public @Nullable InputStream getIcon(String category, String iconSetId, @Nullable String state, Format format) {
-        String icon = getResource(category, true);
-        if (icon.isEmpty()) {
+        byte[] icon = icons.get(category);
+        if (icon == null) {
+            logger.debug("Unable to find icon '{}'", category);
             return null;
         }
 
         if (state != null) {
-            String withState = "%s-%s".formatted(category, state.toString().toLowerCase());
-            String iconWithState = getResource(withState, false);
-            if (!iconWithState.isEmpty()) {
+            byte[] iconWithState = icons.get("%s-%s".formatted(category, state.toLowerCase()));
+            if (iconWithState != null) {
                 icon = iconWithState;
             }
         }
 
-        return new ByteArrayInputStream(icon.getBytes());
+        // The stream only reads the shared array, no copy needed
+        return new ByteArrayInputStream(icon);
     }
 
-    private String getResource(String iconName, boolean shouldExist) {
-        String result = "";
-
-        URL iconResource = context.getBundle().getEntry("icon/%s.svg".formatted(iconName));
-        if (iconResource != null) {
+    private Map<String, byte[]> loadIcons() {
+        Map<String, byte[]> result = new HashMap<>();
+        Enumeration<URL> entries = context.getBundle().findEntries("icon", "*.svg", false);
+        while (entries != null && entries.hasMoreElements()) {
+            URL iconResource = entries.nextElement();
+            String fileName = iconResource.getPath().substring(iconResource.getPath().lastIndexOf('/') + 1);
             try (InputStream stream = iconResource.openStream()) {
-                result = new String(stream.readAllBytes(), StandardCharsets.UTF_8);
+                result.put(fileName.substring(0, fileName.length() - ".svg".length()), stream.readAllBytes());
             } catch (IOException e) {
                 logger.warn("Unable to load resource '{}': {}", iconResource.getPath(), e.getMessage());
             }
-        } else if (shouldExist) {
-            logger.warn("Unable to find icon '{}'", iconName);
         }
-        return result;
+        return Map.copyOf(result);
     }
 }
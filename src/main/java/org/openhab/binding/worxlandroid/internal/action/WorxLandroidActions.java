@@ -0,0 +1,101 @@
+/**
+ * Copyright (c) 2010-2023 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.worxlandroid.internal.action;
+
+import static org.openhab.binding.worxlandroid.internal.WorxLandroidBindingConstants.BINDING_ID;
+
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.binding.worxlandroid.internal.handler.WorxLandroidMowerHandler;
+import org.openhab.binding.worxlandroid.internal.telemetry.TelemetryBuffer;
+import org.openhab.core.automation.annotation.ActionInput;
+import org.openhab.core.automation.annotation.ActionOutput;
+import org.openhab.core.automation.annotation.ActionOutputs;
+import org.openhab.core.automation.annotation.RuleAction;
+import org.openhab.core.thing.binding.ThingActions;
+import org.openhab.core.thing.binding.ThingActionsScope;
+import org.openhab.core.thing.binding.ThingHandler;
+
+/**
+ * The {@link WorxLandroidActions} gives access to the telemetry history recorded by a mower.
+ *
+ * @author agent - Initial contribution
+ *
+ */
+@ThingActionsScope(name = BINDING_ID)
+@NonNullByDefault
+public class WorxLandroidActions implements ThingActions {
+    private static final String TELEMETRY_PACKAGE = "org.openhab.binding.worxlandroid.internal.telemetry";
+    private static final String SAMPLES_TYPE = "java.util.List<" + TELEMETRY_PACKAGE + ".TelemetryBuffer.Sample>";
+    private static final String AGGREGATES_TYPE = "java.util.List<" + TELEMETRY_PACKAGE + ".TelemetryBuffer.Aggregate>";
+
+    private @Nullable WorxLandroidMowerHandler handler;
+
+    @Override
+    public void setThingHandler(ThingHandler handler) {
+        if (handler instanceof WorxLandroidMowerHandler mowerHandler) {
+            this.handler = mowerHandler;
+        }
+    }
+
+    @Override
+    public @Nullable ThingHandler getThingHandler() {
+        return handler;
+    }
+
+    @RuleAction(label = "@text/action.get-telemetry.label", description = "@text/action.get-telemetry.description")
+    @ActionOutputs({ @ActionOutput(name = "samples", label = "@text/action.output.samples.label", type = SAMPLES_TYPE),
+            @ActionOutput(name = "count", label = "@text/action.output.count.label", type = "java.lang.Integer") })
+    public Map<String, Object> getTelemetry(
+            @ActionInput(name = "from", type = "java.time.ZonedDateTime") ZonedDateTime from,
+            @ActionInput(name = "to", type = "java.time.ZonedDateTime") ZonedDateTime to) {
+        List<TelemetryBuffer.Sample> samples = telemetry()
+                .map(buffer -> buffer.scan(from.toInstant(), to.toInstant())).orElse(List.of());
+        return Map.of("samples", samples, "count", samples.size());
+    }
+
+    @RuleAction(label = "@text/action.get-telemetry-aggregates.label",
+            description = "@text/action.get-telemetry-aggregates.description")
+    @ActionOutputs({
+            @ActionOutput(name = "aggregates", label = "@text/action.output.aggregates.label", type = AGGREGATES_TYPE),
+            @ActionOutput(name = "count", label = "@text/action.output.count.label", type = "java.lang.Integer") })
+    public Map<String, Object> getTelemetryAggregates(
+            @ActionInput(name = "from", type = "java.time.ZonedDateTime") ZonedDateTime from,
+            @ActionInput(name = "to", type = "java.time.ZonedDateTime") ZonedDateTime to,
+            @ActionInput(name = "bucketMinutes", type = "java.lang.Integer") int bucketMinutes) {
+        List<TelemetryBuffer.Aggregate> aggregates = telemetry().map(
+                buffer -> buffer.aggregate(from.toInstant(), to.toInstant(), Duration.ofMinutes(bucketMinutes)))
+                .orElse(List.of());
+        return Map.of("aggregates", aggregates, "count", aggregates.size());
+    }
+
+    public static Map<String, Object> getTelemetry(ThingActions actions, ZonedDateTime from, ZonedDateTime to) {
+        return ((WorxLandroidActions) actions).getTelemetry(from, to);
+    }
+
+    public static Map<String, Object> getTelemetryAggregates(ThingActions actions, ZonedDateTime from,
+            ZonedDateTime to, int bucketMinutes) {
+        return ((WorxLandroidActions) actions).getTelemetryAggregates(from, to, bucketMinutes);
+    }
+
+    private Optional<TelemetryBuffer> telemetry() {
+        WorxLandroidMowerHandler localHandler = handler;
+        return localHandler != null ? localHandler.getTelemetry() : Optional.empty();
+    }
+}
@@ -12,7 +12,13 @@
  */
 package org.openhab.binding.worxlandroid.internal.api;
 
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
 import java.lang.reflect.Type;
+import java.nio.charset.StandardCharsets;
 import java.time.ZoneId;
 import java.time.ZonedDateTime;
 import java.time.format.DateTimeFormatter;
@@ -21,6 +27,7 @@ import java.util.Map;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.binding.worxlandroid.internal.api.dto.WorxTypeAdapterFactory;
 import org.openhab.core.i18n.TimeZoneProvider;
 import org.osgi.service.component.annotations.Activate;
 import org.osgi.service.component.annotations.Component;
@@ -30,6 +37,8 @@ import com.google.gson.FieldNamingPolicy;
 import com.google.gson.Gson;
 import com.google.gson.GsonBuilder;
 import com.google.gson.JsonDeserializer;
+import com.google.gson.JsonIOException;
+import com.google.gson.JsonObject;
 import com.google.gson.JsonSyntaxException;
 import com.google.gson.reflect.TypeToken;
 
@@ -55,16 +64,17 @@ public class WorxApiDeserializer {
                         (JsonDeserializer<ZonedDateTime>) (json, type, context) -> ZonedDateTime
                                 .parse(json.getAsJsonPrimitive().getAsString() + "Z", WORX_FORMATTER)
                                 .withZoneSameInstant(timeZoneProvider.getTimeZone()))
-                .registerTypeAdapter(Boolean.class, (JsonDeserializer<Boolean>) (json, type, context) -> {
-                    String value = json.getAsJsonPrimitive().getAsString().toUpperCase();
-                    return "1".equals(value);
-                }).create();
+                .registerTypeAdapterFactory(new WorxTypeAdapterFactory()).create();
     }
 
     public String toJson(Object object) {
         return gson.toJson(object);
     }
 
+    public JsonObject toJsonObject(Object object) {
+        return gson.toJsonTree(object).getAsJsonObject();
+    }
+
     public Map<String, String> toMap(Object object) {
         Map<String, String> fromObject = gson.fromJson(toJson(object), new TypeToken<HashMap<String, String>>() {
         }.getType());
@@ -83,4 +93,38 @@ public class WorxApiDeserializer {
             throw new WebApiException("Unexpected error deserializing '%s' : %s".formatted(json, e.getMessage()));
         }
     }
+
+    /**
+     * Deserializes the UTF-8 encoded json without building an intermediate String
+     */
+    public <T> T deserialize(Type typeToken, byte[] json) throws WebApiException {
+        try (Reader reader = new InputStreamReader(new ByteArrayInputStream(json), StandardCharsets.UTF_8)) {
+            @Nullable
+            T result = gson.fromJson(reader, typeToken);
+            if (result != null) {
+                return result;
+            }
+            throw new WebApiException("Deserialization of '%s' resulted in null value"
+                    .formatted(new String(json, StandardCharsets.UTF_8)));
+        } catch (JsonSyntaxException | JsonIOException | IOException e) {
+            throw new WebApiException("Unexpected error deserializing '%s' : %s"
+                    .formatted(new String(json, StandardCharsets.UTF_8), e.getMessage()));
+        }
+    }
+
+    /**
+     * Deserializes the UTF-8 encoded json while it is read from the stream, which is left open
+     */
+    public <T> T deserialize(Type typeToken, InputStream json) throws WebApiException {
+        try {
+            @Nullable
+            T result = gson.fromJson(new InputStreamReader(json, StandardCharsets.UTF_8), typeToken);
+            if (result != null) {
+                return result;
+            }
+            throw new WebApiException("Deserialization of %s resulted in null value".formatted(typeToken));
+        } catch (JsonSyntaxException | JsonIOException e) {
+            throw new WebApiException("Unexpected error deserializing %s : %s".formatted(typeToken, e.getMessage()));
+        }
+    }
 }
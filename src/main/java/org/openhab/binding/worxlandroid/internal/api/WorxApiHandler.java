@@ -12,19 +12,29 @@
  */
 package org.openhab.binding.worxlandroid.internal.api;
 
+import java.io.IOException;
+import java.io.InputStream;
 import java.lang.reflect.Type;
 import java.util.List;
-import java.util.concurrent.ExecutionException;
-import java.util.concurrent.TimeoutException;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
 import org.eclipse.jetty.client.HttpClient;
-import org.eclipse.jetty.client.api.ContentResponse;
 import org.eclipse.jetty.client.api.Request;
+import org.eclipse.jetty.client.api.Response;
+import org.eclipse.jetty.client.api.Result;
+import org.eclipse.jetty.client.util.InputStreamResponseListener;
 import org.eclipse.jetty.http.HttpHeader;
 import org.eclipse.jetty.http.HttpMethod;
+import org.eclipse.jetty.http.HttpStatus;
 import org.openhab.binding.worxlandroid.internal.api.dto.ProductItemStatus;
 import org.openhab.binding.worxlandroid.internal.api.dto.UsersMeResponse;
+import org.openhab.core.common.ThreadPoolManager;
 import org.openhab.core.io.net.http.HttpClientFactory;
 import org.osgi.service.component.annotations.Activate;
 import org.osgi.service.component.annotations.Component;
@@ -40,88 +50,177 @@ import com.google.gson.reflect.TypeToken;
  * @author Nils - Initial contribution
  */
 @NonNullByDefault
-@Component(service = WorxApiHandler.class)
+@Component(service = WorxApiHandler.class, configurationPid = "binding.worxlandroid")
 public class WorxApiHandler {
     private static final String URL_BASE = "https://api.worxlandroid.com/api/v2/";
-    private static final String URL_PRODUCT_ITEMS = URL_BASE + "product-items";
-    private static final String URL_USERS_ME = URL_BASE + "users/me";
+    private static final String URL_OAUTH_TOKEN = "https://id.worx.com/oauth/token";
+    private static final String CONFIG_API_URL = "apiUrl";
+    private static final int REQUEST_TIMEOUT_S = 20;
 
     private static final Type PRODUCT_ITEM_STATUS_LIST = new TypeToken<List<ProductItemStatus>>() {
     }.getType();
-    private static final Type PRODUCT_ITEM_STATUS = new TypeToken<ProductItemStatus>() {
-    }.getType();
     private static final Type USERS_ME = new TypeToken<UsersMeResponse>() {
     }.getType();
 
     private final Logger logger = LoggerFactory.getLogger(WorxApiHandler.class);
+    private final ScheduledExecutorService scheduler = ThreadPoolManager.getScheduledPool("WorxApiHandler");
     private final HttpClient httpClient;
     private final WorxApiDeserializer deserializer;
+    private final String urlProductItems;
+    private final String urlUsersMe;
+    private final String urlOAuthToken;
+    private final Map<String, CompletableFuture<?>> inFlight = new ConcurrentHashMap<>();
+    private final Map<String, Validated> validated = new ConcurrentHashMap<>();
+
+    /**
+     * Last response received for an url with its validators, used to revalidate it with a conditional request
+     */
+    private record Validated(String accessToken, @Nullable String etag, @Nullable String lastModified, Object value) {
+    }
 
+    /**
+     * The base url of the API can be overridden with the apiUrl configuration parameter, e.g. to target a local stub.
+     * The token is then also requested from this base url.
+     */
     @Activate
     public WorxApiHandler(final @Reference HttpClientFactory httpClientFactory,
-            final @Reference WorxApiDeserializer deserializer) {
+            final @Reference WorxApiDeserializer deserializer, Map<String, Object> configuration) {
         this.httpClient = httpClientFactory.getCommonHttpClient();
         this.deserializer = deserializer;
+
+        String urlBase = URL_BASE;
+        String urlToken = URL_OAUTH_TOKEN;
+        if (configuration.get(CONFIG_API_URL) instanceof String apiUrl && !apiUrl.isBlank()) {
+            urlBase = apiUrl.endsWith("/") ? apiUrl : apiUrl + "/";
+            urlToken = urlBase + "oauth/token";
+            logger.info("Using Worx Landroid API at {}", urlBase);
+        }
+        this.urlProductItems = urlBase + "product-items";
+        this.urlUsersMe = urlBase + "users/me";
+        this.urlOAuthToken = urlToken;
     }
 
     private Request buildRequest(String url, String accessToken, HttpMethod method) {
-        Request request = httpClient.newRequest(url).method(method);
+        Request request = httpClient.newRequest(url).method(method).timeout(REQUEST_TIMEOUT_S, TimeUnit.SECONDS);
         request.header(HttpHeader.AUTHORIZATION, "Bearer %s".formatted(accessToken));
         request.header(HttpHeader.CONTENT_TYPE, "application/json; utf-8");
         return request;
     }
 
-    private <T> T apiGet(String url, String accessToken, Type type) throws WebApiException {
+    /**
+     * Sends a GET request without blocking the calling thread. The body is deserialized on the scheduler while it is
+     * received, it is never buffered whole. Concurrent callers for the same url and token share the same request and
+     * result. When the previous response had validators, the request is conditional and a 304 answer reuses the
+     * previous result without parsing.
+     */
+    @SuppressWarnings("unchecked")
+    private <T> CompletableFuture<T> apiGet(String url, String accessToken, Type type) {
+        String key = url + " " + accessToken;
+        CompletableFuture<T> future = new CompletableFuture<>();
+        CompletableFuture<?> pending = inFlight.putIfAbsent(key, future);
+        if (pending != null) {
+            logger.debug("Joining pending request to {}", url);
+            return ((CompletableFuture<T>) pending).copy();
+        }
+        future.whenComplete((result, e) -> inFlight.remove(key, future));
+
         Request request = buildRequest(url, accessToken, HttpMethod.GET);
+        Validated previous = validated.get(url);
+        if (previous != null && previous.accessToken().equals(accessToken)) {
+            String etag = previous.etag();
+            if (etag != null) {
+                request.header(HttpHeader.IF_NONE_MATCH, etag);
+            }
+            String lastModified = previous.lastModified();
+            if (lastModified != null) {
+                request.header(HttpHeader.IF_MODIFIED_SINCE, lastModified);
+            }
+        } else {
+            previous = null;
+        }
+        Validated revalidated = previous;
 
         logger.debug("URI: {}", request.getURI().toString());
-        try {
-            ContentResponse response = request.send();
-            if (response.getStatus() == 200) {
-                String result = response.getContentAsString();
-                logger.debug("Worx Landroid Api Response: {}", result);
-                return deserializer.deserialize(type, result);
+        request.send(new InputStreamResponseListener() {
+            @Override
+            public void onHeaders(@NonNullByDefault({}) Response response) {
+                super.onHeaders(response);
+                scheduler.execute(() -> {
+                    try (InputStream content = getInputStream()) {
+                        int status = response.getStatus();
+                        logger.debug("Worx Landroid Api Response: HTTP Status = {}", status);
+                        if (status == HttpStatus.NOT_MODIFIED_304 && revalidated != null) {
+                            future.complete((T) revalidated.value());
+                        } else if (status != 200) {
+                            future.completeExceptionally(new WebApiException(
+                                    "Error calling Worx Landroid Api! HTTP Status = %d".formatted(status)));
+                        } else {
+                            T value = deserializer.deserialize(type, content);
+                            String etag = response.getHeaders().get(HttpHeader.ETAG);
+                            String lastModified = response.getHeaders().get(HttpHeader.LAST_MODIFIED);
+                            if (etag != null || lastModified != null) {
+                                validated.put(url, new Validated(accessToken, etag, lastModified, value));
+                            } else {
+                                validated.remove(url);
+                            }
+                            future.complete(value);
+                        }
+                    } catch (WebApiException e) {
+                        future.completeExceptionally(e);
+                    } catch (IOException e) {
+                        future.completeExceptionally(new WebApiException(e));
+                    }
+                });
             }
-            throw new WebApiException(
-                    "Error calling Worx Landroid Api! HTTP Status = %d".formatted(response.getStatus()));
-        } catch (InterruptedException | TimeoutException | ExecutionException e) {
-            throw new WebApiException(e);
-        }
+
+            @Override
+            public void onComplete(@NonNullByDefault({}) Result result) {
+                super.onComplete(result);
+                // Failures after the headers also reach the reader through the stream
+                if (result.isFailed()) {
+                    future.completeExceptionally(new WebApiException(result.getFailure()));
+                }
+            }
+        });
+        return future.copy();
     }
 
-    private boolean apiPost(String url, String accessToken) {
+    private CompletableFuture<Boolean> apiPost(String url, String accessToken) {
         Request request = buildRequest(url, accessToken, HttpMethod.POST);
+        CompletableFuture<Boolean> future = new CompletableFuture<>();
 
         logger.debug("URI: {}", request.getURI().toString());
-        try {
-            return request.send().getStatus() == 200;
-        } catch (InterruptedException | TimeoutException | ExecutionException e) {
-            logger.error("Error posting at {}: {}", request.getURI().toString(), e.getMessage());
-        }
-        return false;
+        request.send(result -> {
+            if (result.isFailed()) {
+                logger.error("Error posting at {}: {}", request.getURI().toString(),
+                        result.getFailure().getMessage());
+            }
+            future.complete(result.isSucceeded() && result.getResponse().getStatus() == 200);
+        });
+        return future;
     }
 
     public WorxApiDeserializer getDeserializer() {
         return deserializer;
     }
 
-    public List<ProductItemStatus> retrieveDeviceStatus(String token) throws WebApiException {
-        return apiGet("%s?status=1".formatted(URL_PRODUCT_ITEMS), token, PRODUCT_ITEM_STATUS_LIST);
+    public String getOAuthTokenUrl() {
+        return urlOAuthToken;
     }
 
-    public ProductItemStatus retrieveDeviceStatus(String token, String serialNumber) throws WebApiException {
-        return apiGet("%s/%s?status=1".formatted(URL_PRODUCT_ITEMS, serialNumber), token, PRODUCT_ITEM_STATUS);
+    public CompletableFuture<List<ProductItemStatus>> retrieveDeviceStatus(String token) {
+        return apiGet("%s?status=1".formatted(urlProductItems), token, PRODUCT_ITEM_STATUS_LIST);
     }
 
-    public UsersMeResponse retrieveMe(String token) throws WebApiException {
-        return apiGet(URL_USERS_ME, token, USERS_ME);
+    public CompletableFuture<UsersMeResponse> retrieveMe(String token) {
+        return apiGet(urlUsersMe, token, USERS_ME);
     }
 
-    public boolean resetBladeTime(String token, String serialNumber) {
-        return apiPost("%s/%s/counters/blade/reset".formatted(URL_PRODUCT_ITEMS, serialNumber), token);
+    public CompletableFuture<Boolean> resetBladeTime(String token, String serialNumber) {
+        return apiPost("%s/%s/counters/blade/reset".formatted(urlProductItems, serialNumber), token);
     }
 
-    public boolean resetBatteryCycles(String token, String serialNumber) {
-        return apiPost("%s/%s/counters/battery/reset".formatted(URL_PRODUCT_ITEMS, serialNumber), token);
+    public CompletableFuture<Boolean> resetBatteryCycles(String token, String serialNumber) {
+        return apiPost("%s/%s/counters/battery/reset".formatted(urlProductItems, serialNumber), token);
     }
 }
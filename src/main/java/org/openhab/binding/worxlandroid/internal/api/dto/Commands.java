@@ -16,6 +16,8 @@ import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
 import org.openhab.binding.worxlandroid.internal.codes.WorxLandroidActionCodes;
 
+import com.google.gson.JsonArray;
+
 /**
  * The {@link Commands} class hold record definition of Commands send to API
  *
@@ -39,15 +41,15 @@ public class Commands {
         }
     }
 
-    private record ScheduleDaysP(int p, Object d, @Nullable Object dd) {
+    private record ScheduleDaysP(int p, JsonArray d, @Nullable JsonArray dd) {
     }
 
     public record ScheduleDaysCommand(ScheduleDaysP sc) {
-        public ScheduleDaysCommand(int p, Object[] d, Object[] dd) {
+        public ScheduleDaysCommand(int p, JsonArray d, JsonArray dd) {
             this(new ScheduleDaysP(p, d, dd));
         }
 
-        public ScheduleDaysCommand(int p, Object[] d) {
+        public ScheduleDaysCommand(int p, JsonArray d) {
             this(new ScheduleDaysP(p, d, null));
         }
     }
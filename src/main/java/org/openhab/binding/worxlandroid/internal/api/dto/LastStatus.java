@@ -23,7 +23,11 @@ public class LastStatus {
     public Payload payload;
 
     public LastStatus(Payload payload) {
+        this(ZonedDateTime.now(), payload);
+    }
+
+    public LastStatus(ZonedDateTime timestamp, Payload payload) {
         this.payload = payload;
-        this.timestamp = ZonedDateTime.now();
+        this.timestamp = timestamp;
     }
 }
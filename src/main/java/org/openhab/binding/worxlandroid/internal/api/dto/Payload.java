@@ -28,39 +28,39 @@ import com.google.gson.annotations.SerializedName;
  * @author Gaël L'hopital - Initial contribution
  */
 public class Payload {
-    public class US {
+    public static class US {
         public int enabled;
         public String stat;
     }
 
-    public class Ots {
+    public static class Ots {
         @SerializedName("wtm")
         public int duration = -1;
-        private int bc = -1;
+        int bc = -1;
 
         public boolean getEdgeCut() {
             return bc == 1;
         }
     }
 
-    public class Al {
+    public static class Al {
         public int lvl;
         public int t;
     }
 
-    public class Modules {
+    public static class Modules {
         @SerializedName("US")
         public US uS;
     }
 
-    public class Rain {
+    public static class Rain {
         @SerializedName("s")
-        public Boolean raining;
+        public boolean raining;
         @SerializedName("cnt")
         public int counter = -1;
     }
 
-    public class Schedule {
+    public static class Schedule {
         public static enum Mode {
             @SerializedName("1")
             NORMAL,
@@ -79,7 +79,7 @@ public class Payload {
         public List<List<String>> dd;
     }
 
-    public class Battery {
+    public static class Battery {
         @SerializedName("t")
         public double temp = -1;
         @SerializedName("v")
@@ -89,11 +89,11 @@ public class Payload {
         @SerializedName("nr")
         public int chargeCycle = -1;
         @SerializedName("c")
-        public Boolean charging;
+        public boolean charging;
         public int m;
     }
 
-    public class Stat {
+    public static class Stat {
         @SerializedName("b")
         public int bladeWorkTime = -1;
         @SerializedName("d")
@@ -104,20 +104,20 @@ public class Payload {
         public int lawnPerimeter;
     }
 
-    public class Cfg {
+    public static class Cfg {
         private static final DateTimeFormatter FORMATTER = DateTimeFormatter.ofPattern("dd/MM/yyyy HH:mm:ss");
 
-        private String dt = ""; // "dt": "13/03/2020",
-        private String tm = ""; // "tm": "17:09:34"
+        String dt = ""; // "dt": "13/03/2020",
+        String tm = ""; // "tm": "17:09:34"
 
         public int id = -1;
         public String lg = ""; // en, fr...
         public int cmd = -1;
         public Schedule sc;
         @SerializedName("mz")
-        public List<Integer> multiZones = List.of();
+        public int[] multiZones = {};
         @SerializedName("mzv")
-        public List<Integer> multizoneAllocations = List.of();
+        public int[] multizoneAllocations = {};
         @SerializedName("rd")
         public int rainDelay = -1;
         @SerializedName("sn")
@@ -133,7 +133,7 @@ public class Payload {
         }
     }
 
-    public class Dat {
+    public static class Dat {
         public static enum Axis {
             // Don't change order - ordinal is used
             PITCH,
@@ -141,9 +141,9 @@ public class Payload {
             YAW;
         }
 
-        private int lk = -1;
+        int lk = -1;
         @SerializedName("dmp")
-        private double[] dataMotionProcessor = { -1, -1, -1 }; // pitch, roll, yaw
+        double[] dataMotionProcessor = { -1, -1, -1 }; // pitch, roll, yaw
 
         public String mac = "";
         public String fw = "";
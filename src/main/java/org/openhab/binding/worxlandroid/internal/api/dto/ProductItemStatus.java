@@ -25,25 +25,25 @@ import java.util.Map;
  */
 public class ProductItemStatus {
 
-    public class Accessories {
+    public static class Accessories {
         public boolean ultrasonic;
     }
 
-    public class MqttTopics {
+    public static class MqttTopics {
         public String commandIn;
         public String commandOut;
     }
 
-    public class SetupLocation {
+    public static class SetupLocation {
         public double latitude;
         public double longitude;
     }
 
-    public class AppSettings {
+    public static class AppSettings {
         boolean cellularSetupCompleted;
     }
 
-    public class City {
+    public static class City {
         public int id;
         public int countryId;
         public String name;
@@ -53,7 +53,7 @@ public class ProductItemStatus {
         public String updatedAt;
     }
 
-    public class Sim {
+    public static class Sim {
         public int id;
         public String iccid;
         public String simStatus;
@@ -64,7 +64,7 @@ public class ProductItemStatus {
         public ZonedDateTime updatedAt;
     }
 
-    public class AutoSchedule {
+    public static class AutoSchedule {
         public int boost;
         public String grassType;
         public boolean irrigation;
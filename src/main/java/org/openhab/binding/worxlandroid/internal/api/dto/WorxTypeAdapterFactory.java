@@ -0,0 +1,904 @@
+/**
+ * Copyright (c) 2010-2023 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.worxlandroid.internal.api.dto;
+
+import java.io.IOException;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.binding.worxlandroid.internal.api.dto.Payload.Al;
+import org.openhab.binding.worxlandroid.internal.api.dto.Payload.Battery;
+import org.openhab.binding.worxlandroid.internal.api.dto.Payload.Cfg;
+import org.openhab.binding.worxlandroid.internal.api.dto.Payload.Dat;
+import org.openhab.binding.worxlandroid.internal.api.dto.Payload.Modules;
+import org.openhab.binding.worxlandroid.internal.api.dto.Payload.Ots;
+import org.openhab.binding.worxlandroid.internal.api.dto.Payload.Rain;
+import org.openhab.binding.worxlandroid.internal.api.dto.Payload.Schedule;
+import org.openhab.binding.worxlandroid.internal.api.dto.Payload.Stat;
+import org.openhab.binding.worxlandroid.internal.api.dto.Payload.US;
+import org.openhab.binding.worxlandroid.internal.api.dto.ProductItemStatus.Accessories;
+import org.openhab.binding.worxlandroid.internal.api.dto.ProductItemStatus.AppSettings;
+import org.openhab.binding.worxlandroid.internal.api.dto.ProductItemStatus.AutoSchedule;
+import org.openhab.binding.worxlandroid.internal.api.dto.ProductItemStatus.City;
+import org.openhab.binding.worxlandroid.internal.api.dto.ProductItemStatus.MqttTopics;
+import org.openhab.binding.worxlandroid.internal.api.dto.ProductItemStatus.SetupLocation;
+import org.openhab.binding.worxlandroid.internal.api.dto.ProductItemStatus.Sim;
+import org.openhab.binding.worxlandroid.internal.codes.CodeTable;
+import org.openhab.binding.worxlandroid.internal.codes.WorxLandroidErrorCodes;
+import org.openhab.binding.worxlandroid.internal.codes.WorxLandroidStatusCodes;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.TypeAdapterFactory;
+import com.google.gson.annotations.SerializedName;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+
+/**
+ * The {@link WorxTypeAdapterFactory} provides streaming adapters for the objects received on every MQTT message or
+ * status refresh. Fields are read without reflection and unknown keys are skipped. Serialization is left to the
+ * reflective adapters as it is only used for debugging purpose.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class WorxTypeAdapterFactory implements TypeAdapterFactory {
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public <T> @Nullable TypeAdapter<T> create(Gson gson, TypeToken<T> type) {
+        Class<? super T> rawType = type.getRawType();
+        if (rawType == WorxLandroidStatusCodes.class) {
+            return (TypeAdapter<T>) new CodeEnumAdapter<>(CodeTable.STATUS_CODES);
+        } else if (rawType == WorxLandroidErrorCodes.class) {
+            return (TypeAdapter<T>) new CodeEnumAdapter<>(CodeTable.ERROR_CODES);
+        } else if (rawType == Schedule.Mode.class) {
+            return (TypeAdapter<T>) new CodeEnumAdapter<>(new CodeTable<>(Schedule.Mode.class));
+        }
+        TypeAdapter<?> adapter = createDtoAdapter(gson, rawType);
+        return adapter != null ? (TypeAdapter<T>) adapter : null;
+    }
+
+    private @Nullable TypeAdapter<?> createDtoAdapter(Gson gson, Class<?> rawType) {
+        if (rawType == Payload.class) {
+            return new PayloadAdapter(gson, gson.getDelegateAdapter(this, TypeToken.get(Payload.class)));
+        } else if (rawType == Cfg.class) {
+            return new CfgAdapter(gson, gson.getDelegateAdapter(this, TypeToken.get(Cfg.class)));
+        } else if (rawType == Dat.class) {
+            return new DatAdapter(gson, gson.getDelegateAdapter(this, TypeToken.get(Dat.class)));
+        } else if (rawType == Schedule.class) {
+            return new ScheduleAdapter(gson, gson.getDelegateAdapter(this, TypeToken.get(Schedule.class)));
+        } else if (rawType == Ots.class) {
+            return new OtsAdapter(gson.getDelegateAdapter(this, TypeToken.get(Ots.class)));
+        } else if (rawType == Battery.class) {
+            return new BatteryAdapter(gson.getDelegateAdapter(this, TypeToken.get(Battery.class)));
+        } else if (rawType == Stat.class) {
+            return new StatAdapter(gson.getDelegateAdapter(this, TypeToken.get(Stat.class)));
+        } else if (rawType == Rain.class) {
+            return new RainAdapter(gson.getDelegateAdapter(this, TypeToken.get(Rain.class)));
+        } else if (rawType == Al.class) {
+            return new AlAdapter(gson.getDelegateAdapter(this, TypeToken.get(Al.class)));
+        } else if (rawType == Modules.class) {
+            return new ModulesAdapter(gson, gson.getDelegateAdapter(this, TypeToken.get(Modules.class)));
+        } else if (rawType == US.class) {
+            return new USAdapter(gson.getDelegateAdapter(this, TypeToken.get(US.class)));
+        } else if (rawType == ProductItemStatus.class) {
+            return new ProductItemStatusAdapter(gson,
+                    gson.getDelegateAdapter(this, TypeToken.get(ProductItemStatus.class)));
+        } else if (rawType == MqttTopics.class) {
+            return new MqttTopicsAdapter(gson.getDelegateAdapter(this, TypeToken.get(MqttTopics.class)));
+        } else if (rawType == Sim.class) {
+            return new SimAdapter(gson, gson.getDelegateAdapter(this, TypeToken.get(Sim.class)));
+        } else if (rawType == AppSettings.class) {
+            return new AppSettingsAdapter(gson.getDelegateAdapter(this, TypeToken.get(AppSettings.class)));
+        } else if (rawType == Accessories.class) {
+            return new AccessoriesAdapter(gson.getDelegateAdapter(this, TypeToken.get(Accessories.class)));
+        } else if (rawType == SetupLocation.class) {
+            return new SetupLocationAdapter(gson.getDelegateAdapter(this, TypeToken.get(SetupLocation.class)));
+        } else if (rawType == City.class) {
+            return new CityAdapter(gson.getDelegateAdapter(this, TypeToken.get(City.class)));
+        } else if (rawType == AutoSchedule.class) {
+            return new AutoScheduleAdapter(gson.getDelegateAdapter(this, TypeToken.get(AutoSchedule.class)));
+        } else if (rawType == LastStatus.class) {
+            return new LastStatusAdapter(gson, gson.getDelegateAdapter(this, TypeToken.get(LastStatus.class)));
+        }
+        return null;
+    }
+
+    /**
+     * Base class of the adapters: reads a json object field by field into a newly created instance
+     */
+    private abstract static class DtoAdapter<T> extends TypeAdapter<T> {
+        private final TypeAdapter<T> delegate;
+
+        DtoAdapter(TypeAdapter<T> delegate) {
+            this.delegate = delegate;
+        }
+
+        protected abstract T create();
+
+        /**
+         * Reads the value of the field. Implementations must consume the value, calling in.skipValue() when the
+         * field is not known.
+         */
+        protected abstract void readField(JsonReader in, String name, T target) throws IOException;
+
+        @Override
+        public @Nullable T read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            T result = create();
+            in.beginObject();
+            while (in.hasNext()) {
+                readField(in, in.nextName(), result);
+            }
+            in.endObject();
+            return result;
+        }
+
+        @Override
+        public void write(JsonWriter out, @Nullable T value) throws IOException {
+            delegate.write(out, value);
+        }
+    }
+
+    private static class PayloadAdapter extends DtoAdapter<Payload> {
+        private final TypeAdapter<Cfg> cfgAdapter;
+        private final TypeAdapter<Dat> datAdapter;
+
+        PayloadAdapter(Gson gson, TypeAdapter<Payload> delegate) {
+            super(delegate);
+            cfgAdapter = gson.getAdapter(Cfg.class);
+            datAdapter = gson.getAdapter(Dat.class);
+        }
+
+        @Override
+        protected Payload create() {
+            return new Payload();
+        }
+
+        @Override
+        protected void readField(JsonReader in, String name, Payload target) throws IOException {
+            switch (name) {
+                case "cfg" -> target.cfg = cfgAdapter.read(in);
+                case "dat" -> target.dat = datAdapter.read(in);
+                default -> in.skipValue();
+            }
+        }
+    }
+
+    private static class CfgAdapter extends DtoAdapter<Cfg> {
+        private final TypeAdapter<Schedule> scheduleAdapter;
+        private final TypeAdapter<Al> alAdapter;
+        private final TypeAdapter<Modules> modulesAdapter;
+
+        CfgAdapter(Gson gson, TypeAdapter<Cfg> delegate) {
+            super(delegate);
+            scheduleAdapter = gson.getAdapter(Schedule.class);
+            alAdapter = gson.getAdapter(Al.class);
+            modulesAdapter = gson.getAdapter(Modules.class);
+        }
+
+        @Override
+        protected Cfg create() {
+            return new Cfg();
+        }
+
+        @Override
+        protected void readField(JsonReader in, String name, Cfg target) throws IOException {
+            switch (name) {
+                case "dt" -> target.dt = readString(in, target.dt);
+                case "tm" -> target.tm = readString(in, target.tm);
+                case "id" -> target.id = readInt(in, target.id);
+                case "lg" -> target.lg = readString(in, target.lg);
+                case "cmd" -> target.cmd = readInt(in, target.cmd);
+                case "sc" -> target.sc = scheduleAdapter.read(in);
+                case "mz" -> target.multiZones = readIntArray(in, target.multiZones);
+                case "mzv" -> target.multizoneAllocations = readIntArray(in, target.multizoneAllocations);
+                case "rd" -> target.rainDelay = readInt(in, target.rainDelay);
+                case "sn" -> target.serialNumber = readString(in, target.serialNumber);
+                case "mzk" -> target.mzk = readInt(in, target.mzk);
+                case "al" -> target.al = alAdapter.read(in);
+                case "tq" -> target.tq = readInt(in, target.tq);
+                case "modules" -> target.modules = modulesAdapter.read(in);
+                default -> in.skipValue();
+            }
+        }
+    }
+
+    private static class DatAdapter extends DtoAdapter<Dat> {
+        private final TypeAdapter<Battery> batteryAdapter;
+        private final TypeAdapter<Stat> statAdapter;
+        private final TypeAdapter<Rain> rainAdapter;
+        private final TypeAdapter<Modules> modulesAdapter;
+        private final TypeAdapter<WorxLandroidStatusCodes> statusAdapter;
+        private final TypeAdapter<WorxLandroidErrorCodes> errorAdapter;
+
+        DatAdapter(Gson gson, TypeAdapter<Dat> delegate) {
+            super(delegate);
+            batteryAdapter = gson.getAdapter(Battery.class);
+            statAdapter = gson.getAdapter(Stat.class);
+            rainAdapter = gson.getAdapter(Rain.class);
+            modulesAdapter = gson.getAdapter(Modules.class);
+            statusAdapter = gson.getAdapter(WorxLandroidStatusCodes.class);
+            errorAdapter = gson.getAdapter(WorxLandroidErrorCodes.class);
+        }
+
+        @Override
+        protected Dat create() {
+            return new Dat();
+        }
+
+        @Override
+        protected void readField(JsonReader in, String name, Dat target) throws IOException {
+            switch (name) {
+                case "lk" -> target.lk = readInt(in, target.lk);
+                case "dmp" -> readDoubles(in, target.dataMotionProcessor);
+                case "mac" -> target.mac = readString(in, target.mac);
+                case "fw" -> target.fw = readString(in, target.fw);
+                case "bt" -> target.battery = batteryAdapter.read(in);
+                case "st" -> target.st = statAdapter.read(in);
+                case "ls" -> target.statusCode = readEnum(in, statusAdapter, target.statusCode);
+                case "le" -> target.errorCode = readEnum(in, errorAdapter, target.errorCode);
+                case "lz" -> target.lastZone = readInt(in, target.lastZone);
+                case "rsi" -> target.wifiQuality = readInt(in, target.wifiQuality);
+                case "fwb" -> target.fwb = readInt(in, target.fwb);
+                case "conn" -> target.conn = readString(in, target.conn);
+                case "act" -> target.act = readInt(in, target.act);
+                case "tr" -> target.tr = readInt(in, target.tr);
+                case "rain" -> target.rain = rainAdapter.read(in);
+                case "modules" -> target.modules = modulesAdapter.read(in);
+                default -> in.skipValue();
+            }
+        }
+    }
+
+    private static class ScheduleAdapter extends DtoAdapter<Schedule> {
+        private final TypeAdapter<Ots> otsAdapter;
+        private final TypeAdapter<Schedule.Mode> modeAdapter;
+
+        ScheduleAdapter(Gson gson, TypeAdapter<Schedule> delegate) {
+            super(delegate);
+            otsAdapter = gson.getAdapter(Ots.class);
+            modeAdapter = gson.getAdapter(Schedule.Mode.class);
+        }
+
+        @Override
+        protected Schedule create() {
+            return new Schedule();
+        }
+
+        @Override
+        protected void readField(JsonReader in, String name, Schedule target) throws IOException {
+            switch (name) {
+                case "m" -> target.scheduleMode = readEnum(in, modeAdapter, target.scheduleMode);
+                case "p" -> target.timeExtension = readInt(in, target.timeExtension);
+                case "distm" -> target.distm = readInt(in, target.distm);
+                case "ots" -> target.ots = otsAdapter.read(in);
+                case "d" -> target.d = readStringTable(in);
+                case "dd" -> target.dd = readStringTable(in);
+                default -> in.skipValue();
+            }
+        }
+    }
+
+    private static class OtsAdapter extends DtoAdapter<Ots> {
+        OtsAdapter(TypeAdapter<Ots> delegate) {
+            super(delegate);
+        }
+
+        @Override
+        protected Ots create() {
+            return new Ots();
+        }
+
+        @Override
+        protected void readField(JsonReader in, String name, Ots target) throws IOException {
+            switch (name) {
+                case "wtm" -> target.duration = readInt(in, target.duration);
+                case "bc" -> target.bc = readInt(in, target.bc);
+                default -> in.skipValue();
+            }
+        }
+    }
+
+    private static class BatteryAdapter extends DtoAdapter<Battery> {
+        BatteryAdapter(TypeAdapter<Battery> delegate) {
+            super(delegate);
+        }
+
+        @Override
+        protected Battery create() {
+            return new Battery();
+        }
+
+        @Override
+        protected void readField(JsonReader in, String name, Battery target) throws IOException {
+            switch (name) {
+                case "t" -> target.temp = readDouble(in, target.temp);
+                case "v" -> target.voltage = readDouble(in, target.voltage);
+                case "p" -> target.level = readInt(in, target.level);
+                case "nr" -> target.chargeCycle = readInt(in, target.chargeCycle);
+                case "c" -> target.charging = readBoolean(in, target.charging);
+                case "m" -> target.m = readInt(in, target.m);
+                default -> in.skipValue();
+            }
+        }
+    }
+
+    private static class StatAdapter extends DtoAdapter<Stat> {
+        StatAdapter(TypeAdapter<Stat> delegate) {
+            super(delegate);
+        }
+
+        @Override
+        protected Stat create() {
+            return new Stat();
+        }
+
+        @Override
+        protected void readField(JsonReader in, String name, Stat target) throws IOException {
+            switch (name) {
+                case "b" -> target.bladeWorkTime = readInt(in, target.bladeWorkTime);
+                case "d" -> target.distanceCovered = readInt(in, target.distanceCovered);
+                case "wt" -> target.mowerWorkTime = readInt(in, target.mowerWorkTime);
+                case "bl" -> target.lawnPerimeter = readInt(in, target.lawnPerimeter);
+                default -> in.skipValue();
+            }
+        }
+    }
+
+    private static class RainAdapter extends DtoAdapter<Rain> {
+        RainAdapter(TypeAdapter<Rain> delegate) {
+            super(delegate);
+        }
+
+        @Override
+        protected Rain create() {
+            return new Rain();
+        }
+
+        @Override
+        protected void readField(JsonReader in, String name, Rain target) throws IOException {
+            switch (name) {
+                case "s" -> target.raining = readBoolean(in, target.raining);
+                case "cnt" -> target.counter = readInt(in, target.counter);
+                default -> in.skipValue();
+            }
+        }
+    }
+
+    private static class AlAdapter extends DtoAdapter<Al> {
+        AlAdapter(TypeAdapter<Al> delegate) {
+            super(delegate);
+        }
+
+        @Override
+        protected Al create() {
+            return new Al();
+        }
+
+        @Override
+        protected void readField(JsonReader in, String name, Al target) throws IOException {
+            switch (name) {
+                case "lvl" -> target.lvl = readInt(in, target.lvl);
+                case "t" -> target.t = readInt(in, target.t);
+                default -> in.skipValue();
+            }
+        }
+    }
+
+    private static class ModulesAdapter extends DtoAdapter<Modules> {
+        private final TypeAdapter<US> usAdapter;
+
+        ModulesAdapter(Gson gson, TypeAdapter<Modules> delegate) {
+            super(delegate);
+            usAdapter = gson.getAdapter(US.class);
+        }
+
+        @Override
+        protected Modules create() {
+            return new Modules();
+        }
+
+        @Override
+        protected void readField(JsonReader in, String name, Modules target) throws IOException {
+            if ("US".equals(name)) {
+                target.uS = usAdapter.read(in);
+            } else {
+                in.skipValue();
+            }
+        }
+    }
+
+    private static class USAdapter extends DtoAdapter<US> {
+        USAdapter(TypeAdapter<US> delegate) {
+            super(delegate);
+        }
+
+        @Override
+        protected US create() {
+            return new US();
+        }
+
+        @Override
+        protected void readField(JsonReader in, String name, US target) throws IOException {
+            switch (name) {
+                case "enabled" -> target.enabled = readInt(in, target.enabled);
+                case "stat" -> target.stat = readString(in, target.stat);
+                default -> in.skipValue();
+            }
+        }
+    }
+
+    private static class ProductItemStatusAdapter extends DtoAdapter<ProductItemStatus> {
+        private final TypeAdapter<ZonedDateTime> dateTimeAdapter;
+        private final TypeAdapter<ZoneId> zoneIdAdapter;
+        private final TypeAdapter<MqttTopics> mqttTopicsAdapter;
+        private final TypeAdapter<LastStatus> lastStatusAdapter;
+        private final TypeAdapter<Sim> simAdapter;
+        private final TypeAdapter<AppSettings> appSettingsAdapter;
+        private final TypeAdapter<Accessories> accessoriesAdapter;
+        private final TypeAdapter<SetupLocation> setupLocationAdapter;
+        private final TypeAdapter<City> cityAdapter;
+        private final TypeAdapter<AutoSchedule> autoScheduleAdapter;
+
+        ProductItemStatusAdapter(Gson gson, TypeAdapter<ProductItemStatus> delegate) {
+            super(delegate);
+            dateTimeAdapter = gson.getAdapter(ZonedDateTime.class);
+            zoneIdAdapter = gson.getAdapter(ZoneId.class);
+            mqttTopicsAdapter = gson.getAdapter(MqttTopics.class);
+            lastStatusAdapter = gson.getAdapter(LastStatus.class);
+            simAdapter = gson.getAdapter(Sim.class);
+            appSettingsAdapter = gson.getAdapter(AppSettings.class);
+            accessoriesAdapter = gson.getAdapter(Accessories.class);
+            setupLocationAdapter = gson.getAdapter(SetupLocation.class);
+            cityAdapter = gson.getAdapter(City.class);
+            autoScheduleAdapter = gson.getAdapter(AutoSchedule.class);
+        }
+
+        @Override
+        protected ProductItemStatus create() {
+            return new ProductItemStatus();
+        }
+
+        @Override
+        protected void readField(JsonReader in, String name, ProductItemStatus target) throws IOException {
+            switch (name) {
+                case "id" -> target.id = readString(in, target.id);
+                case "uuid" -> target.uuid = readString(in, target.uuid);
+                case "product_id" -> target.productId = readInt(in, target.productId);
+                case "user_id" -> target.userId = readString(in, target.userId);
+                case "serial_number" -> target.serialNumber = readString(in, target.serialNumber);
+                case "mac_address" -> target.macAddress = readString(in, target.macAddress);
+                case "name" -> target.name = readString(in, target.name);
+                case "locked" -> target.locked = readBoolean(in, target.locked);
+                case "firmware_version" -> target.firmwareVersion = readString(in, target.firmwareVersion);
+                case "firmware_auto_upgrade" -> target.firmwareAutoUpgrade = readBoolean(in,
+                        target.firmwareAutoUpgrade);
+                case "push_notifications" -> target.pushNotifications = readBoolean(in, target.pushNotifications);
+                case "push_notifications_level" -> target.pushNotificationsLevel = readString(in,
+                        target.pushNotificationsLevel);
+                case "test" -> target.test = readBoolean(in, target.test);
+                case "iot_registered" -> target.iotRegistered = readBoolean(in, target.iotRegistered);
+                case "mqtt_registered" -> target.mqttRegistered = readBoolean(in, target.mqttRegistered);
+                case "pin_code" -> target.pinCode = readString(in, target.pinCode);
+                case "registered_at" -> target.registeredAt = readString(in, target.registeredAt);
+                case "online" -> target.online = readBoolean(in, target.online);
+                case "mqtt_endpoint" -> target.mqttEndpoint = readString(in, target.mqttEndpoint);
+                case "protocol" -> target.protocol = readInt(in, target.protocol);
+                case "pending_radio_link_validation" -> target.pendingRadioLinkValidation = readString(in,
+                        target.pendingRadioLinkValidation);
+                case "capabilities" -> target.capabilities = readStrings(in);
+                case "capabilities_available" -> target.capabilitiesAvailable = readStrings(in);
+                case "mqtt_topics" -> target.mqttTopics = mqttTopicsAdapter.read(in);
+                case "warranty_registered" -> target.warrantyRegistered = readBoolean(in, target.warrantyRegistered);
+                case "purchased_at" -> target.purchasedAt = readString(in, target.purchasedAt);
+                case "warranty_expires_at" -> target.warrantyExpiresAt = readString(in, target.warrantyExpiresAt);
+                case "time_zone" -> target.timeZone = zoneIdAdapter.read(in);
+                case "lawn_size" -> target.lawnSize = readDouble(in, target.lawnSize);
+                case "lawn_perimeter" -> target.lawnPerimeter = readDouble(in, target.lawnPerimeter);
+                case "auto_schedule" -> target.autoSchedule = readBoolean(in, target.autoSchedule);
+                case "improvement" -> target.improvement = readBoolean(in, target.improvement);
+                case "diagnostic" -> target.diagnostic = readBoolean(in, target.diagnostic);
+                case "distance_covered" -> target.distanceCovered = readLong(in, target.distanceCovered);
+                case "mower_work_time" -> target.mowerWorkTime = readLong(in, target.mowerWorkTime);
+                case "blade_work_time" -> target.bladeWorkTime = readLong(in, target.bladeWorkTime);
+                case "blade_work_time_reset" -> target.bladeWorkTimeReset = readLong(in, target.bladeWorkTimeReset);
+                case "blade_work_time_reset_at" -> target.bladeWorkTimeResetAt = dateTimeAdapter.read(in);
+                case "battery_charge_cycles" -> target.batteryChargeCycles = readInt(in, target.batteryChargeCycles);
+                case "battery_charge_cycles_reset" -> target.batteryChargeCyclesReset = readInt(in,
+                        target.batteryChargeCyclesReset);
+                case "battery_charge_cycles_reset_at" -> target.batteryChargeCyclesResetAt = dateTimeAdapter.read(in);
+                case "created_at" -> target.createdAt = dateTimeAdapter.read(in);
+                case "updated_at" -> target.updatedAt = dateTimeAdapter.read(in);
+                case "last_status" -> target.lastStatus = lastStatusAdapter.read(in);
+                case "sim" -> target.sim = simAdapter.read(in);
+                case "app_settings" -> target.appSettings = appSettingsAdapter.read(in);
+                case "accessories" -> target.accessories = accessoriesAdapter.read(in);
+                case "setup_location" -> target.setupLocation = setupLocationAdapter.read(in);
+                case "city" -> target.city = cityAdapter.read(in);
+                case "auto_schedule_settings" -> target.autoScheduleSettings = autoScheduleAdapter.read(in);
+                default -> in.skipValue();
+            }
+        }
+    }
+
+    private static class MqttTopicsAdapter extends DtoAdapter<MqttTopics> {
+        MqttTopicsAdapter(TypeAdapter<MqttTopics> delegate) {
+            super(delegate);
+        }
+
+        @Override
+        protected MqttTopics create() {
+            return new MqttTopics();
+        }
+
+        @Override
+        protected void readField(JsonReader in, String name, MqttTopics target) throws IOException {
+            switch (name) {
+                case "command_in" -> target.commandIn = readString(in, target.commandIn);
+                case "command_out" -> target.commandOut = readString(in, target.commandOut);
+                default -> in.skipValue();
+            }
+        }
+    }
+
+    private static class SimAdapter extends DtoAdapter<Sim> {
+        private final TypeAdapter<ZonedDateTime> dateTimeAdapter;
+
+        SimAdapter(Gson gson, TypeAdapter<Sim> delegate) {
+            super(delegate);
+            dateTimeAdapter = gson.getAdapter(ZonedDateTime.class);
+        }
+
+        @Override
+        protected Sim create() {
+            return new Sim();
+        }
+
+        @Override
+        protected void readField(JsonReader in, String name, Sim target) throws IOException {
+            switch (name) {
+                case "id" -> target.id = readInt(in, target.id);
+                case "iccid" -> target.iccid = readString(in, target.iccid);
+                case "sim_status" -> target.simStatus = readString(in, target.simStatus);
+                case "pending_activation" -> target.pendingActivation = readBoolean(in, target.pendingActivation);
+                case "contract_starts_at" -> target.contractStartsAt = dateTimeAdapter.read(in);
+                case "contract_ends_at" -> target.contractEndsAt = dateTimeAdapter.read(in);
+                case "created_at" -> target.createdAt = dateTimeAdapter.read(in);
+                case "updated_at" -> target.updatedAt = dateTimeAdapter.read(in);
+                default -> in.skipValue();
+            }
+        }
+    }
+
+    private static class AppSettingsAdapter extends DtoAdapter<AppSettings> {
+        AppSettingsAdapter(TypeAdapter<AppSettings> delegate) {
+            super(delegate);
+        }
+
+        @Override
+        protected AppSettings create() {
+            return new AppSettings();
+        }
+
+        @Override
+        protected void readField(JsonReader in, String name, AppSettings target) throws IOException {
+            if ("cellular_setup_completed".equals(name)) {
+                target.cellularSetupCompleted = readBoolean(in, target.cellularSetupCompleted);
+            } else {
+                in.skipValue();
+            }
+        }
+    }
+
+    private static class AccessoriesAdapter extends DtoAdapter<Accessories> {
+        AccessoriesAdapter(TypeAdapter<Accessories> delegate) {
+            super(delegate);
+        }
+
+        @Override
+        protected Accessories create() {
+            return new Accessories();
+        }
+
+        @Override
+        protected void readField(JsonReader in, String name, Accessories target) throws IOException {
+            if ("ultrasonic".equals(name)) {
+                target.ultrasonic = readBoolean(in, target.ultrasonic);
+            } else {
+                in.skipValue();
+            }
+        }
+    }
+
+    private static class SetupLocationAdapter extends DtoAdapter<SetupLocation> {
+        SetupLocationAdapter(TypeAdapter<SetupLocation> delegate) {
+            super(delegate);
+        }
+
+        @Override
+        protected SetupLocation create() {
+            return new SetupLocation();
+        }
+
+        @Override
+        protected void readField(JsonReader in, String name, SetupLocation target) throws IOException {
+            switch (name) {
+                case "latitude" -> target.latitude = readDouble(in, target.latitude);
+                case "longitude" -> target.longitude = readDouble(in, target.longitude);
+                default -> in.skipValue();
+            }
+        }
+    }
+
+    private static class CityAdapter extends DtoAdapter<City> {
+        CityAdapter(TypeAdapter<City> delegate) {
+            super(delegate);
+        }
+
+        @Override
+        protected City create() {
+            return new City();
+        }
+
+        @Override
+        protected void readField(JsonReader in, String name, City target) throws IOException {
+            switch (name) {
+                case "id" -> target.id = readInt(in, target.id);
+                case "country_id" -> target.countryId = readInt(in, target.countryId);
+                case "name" -> target.name = readString(in, target.name);
+                case "latitude" -> target.latitude = readDouble(in, target.latitude);
+                case "longitude" -> target.longitude = readDouble(in, target.longitude);
+                case "created_at" -> target.createdAt = readString(in, target.createdAt);
+                case "updated_at" -> target.updatedAt = readString(in, target.updatedAt);
+                default -> in.skipValue();
+            }
+        }
+    }
+
+    private static class AutoScheduleAdapter extends DtoAdapter<AutoSchedule> {
+        AutoScheduleAdapter(TypeAdapter<AutoSchedule> delegate) {
+            super(delegate);
+        }
+
+        @Override
+        protected AutoSchedule create() {
+            return new AutoSchedule();
+        }
+
+        @Override
+        protected void readField(JsonReader in, String name, AutoSchedule target) throws IOException {
+            switch (name) {
+                case "boost" -> target.boost = readInt(in, target.boost);
+                case "grass_type" -> target.grassType = readString(in, target.grassType);
+                case "irrigation" -> target.irrigation = readBoolean(in, target.irrigation);
+                case "nutrition" -> target.nutrition = readStringMap(in);
+                case "soil_type" -> target.soilType = readString(in, target.soilType);
+                default -> in.skipValue();
+            }
+        }
+    }
+
+    private static class LastStatusAdapter extends TypeAdapter<LastStatus> {
+        private final TypeAdapter<LastStatus> delegate;
+        private final TypeAdapter<ZonedDateTime> dateTimeAdapter;
+        private final TypeAdapter<Payload> payloadAdapter;
+
+        LastStatusAdapter(Gson gson, TypeAdapter<LastStatus> delegate) {
+            this.delegate = delegate;
+            dateTimeAdapter = gson.getAdapter(ZonedDateTime.class);
+            payloadAdapter = gson.getAdapter(Payload.class);
+        }
+
+        @Override
+        public @Nullable LastStatus read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            ZonedDateTime timestamp = null;
+            Payload payload = null;
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "timestamp" -> timestamp = dateTimeAdapter.read(in);
+                    case "payload" -> payload = payloadAdapter.read(in);
+                    default -> in.skipValue();
+                }
+            }
+            in.endObject();
+            return new LastStatus(timestamp, payload);
+        }
+
+        @Override
+        public void write(JsonWriter out, @Nullable LastStatus value) throws IOException {
+            delegate.write(out, value);
+        }
+    }
+
+    /**
+     * Adapter of the enums identified by a numeric code declared through {@link SerializedName}.
+     */
+    private static class CodeEnumAdapter<E extends Enum<E>> extends TypeAdapter<E> {
+        private final CodeTable<E> codes;
+
+        CodeEnumAdapter(CodeTable<E> codes) {
+            this.codes = codes;
+        }
+
+        @Override
+        public @Nullable E read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            return codes.get(in.nextInt());
+        }
+
+        @Override
+        public void write(JsonWriter out, @Nullable E value) throws IOException {
+            if (value == null) {
+                out.nullValue();
+            } else {
+                out.value(Integer.toString(codes.code(value)));
+            }
+        }
+    }
+
+    private static boolean isNull(JsonReader in) throws IOException {
+        if (in.peek() == JsonToken.NULL) {
+            in.nextNull();
+            return true;
+        }
+        return false;
+    }
+
+    private static int readInt(JsonReader in, int defaultValue) throws IOException {
+        return isNull(in) ? defaultValue : in.nextInt();
+    }
+
+    private static long readLong(JsonReader in, long defaultValue) throws IOException {
+        return isNull(in) ? defaultValue : in.nextLong();
+    }
+
+    private static double readDouble(JsonReader in, double defaultValue) throws IOException {
+        return isNull(in) ? defaultValue : in.nextDouble();
+    }
+
+    /**
+     * Worx encodes booleans either as true/false or as 0/1 (possibly quoted)
+     */
+    private static boolean readBoolean(JsonReader in, boolean defaultValue) throws IOException {
+        return switch (in.peek()) {
+            case NULL -> {
+                in.nextNull();
+                yield defaultValue;
+            }
+            case BOOLEAN -> in.nextBoolean();
+            case NUMBER -> in.nextInt() == 1;
+            default -> {
+                String value = in.nextString();
+                yield "1".equals(value) || "true".equalsIgnoreCase(value);
+            }
+        };
+    }
+
+    private static String readString(JsonReader in, String defaultValue) throws IOException {
+        return switch (in.peek()) {
+            case NULL -> {
+                in.nextNull();
+                yield defaultValue;
+            }
+            case BOOLEAN -> Boolean.toString(in.nextBoolean());
+            default -> in.nextString();
+        };
+    }
+
+    private static <E> E readEnum(JsonReader in, TypeAdapter<E> adapter, E defaultValue) throws IOException {
+        E result = adapter.read(in);
+        return result != null ? result : defaultValue;
+    }
+
+    private static int[] readIntArray(JsonReader in, int[] defaultValue) throws IOException {
+        if (isNull(in)) {
+            return defaultValue;
+        }
+        int[] result = new int[8];
+        int size = 0;
+        in.beginArray();
+        while (in.hasNext()) {
+            if (size == result.length) {
+                int[] larger = new int[size * 2];
+                System.arraycopy(result, 0, larger, 0, size);
+                result = larger;
+            }
+            result[size++] = in.nextInt();
+        }
+        in.endArray();
+        int[] trimmed = new int[size];
+        System.arraycopy(result, 0, trimmed, 0, size);
+        return trimmed;
+    }
+
+    /**
+     * Fills the given array with the read values, values exceeding its size are ignored
+     */
+    private static void readDoubles(JsonReader in, double[] target) throws IOException {
+        if (isNull(in)) {
+            return;
+        }
+        int index = 0;
+        in.beginArray();
+        while (in.hasNext()) {
+            if (index < target.length) {
+                target[index++] = in.nextDouble();
+            } else {
+                in.skipValue();
+            }
+        }
+        in.endArray();
+    }
+
+    private static @Nullable List<String> readStrings(JsonReader in) throws IOException {
+        if (isNull(in)) {
+            return null;
+        }
+        List<String> result = new ArrayList<>();
+        in.beginArray();
+        while (in.hasNext()) {
+            result.add(readString(in, ""));
+        }
+        in.endArray();
+        return result;
+    }
+
+    private static @Nullable Map<String, @Nullable String> readStringMap(JsonReader in) throws IOException {
+        if (isNull(in)) {
+            return null;
+        }
+        Map<String, @Nullable String> result = new HashMap<>();
+        in.beginObject();
+        while (in.hasNext()) {
+            String key = in.nextName();
+            result.put(key, isNull(in) ? null : readString(in, ""));
+        }
+        in.endObject();
+        return result;
+    }
+
+    private static @Nullable List<List<String>> readStringTable(JsonReader in) throws IOException {
+        if (isNull(in)) {
+            return null;
+        }
+        List<List<String>> result = new ArrayList<>(7);
+        in.beginArray();
+        while (in.hasNext()) {
+            List<String> row = readStrings(in);
+            result.add(row != null ? row : List.of());
+        }
+        in.endArray();
+        return result;
+    }
+}
@@ -0,0 +1,72 @@
+/**
+ * Copyright (c) 2010-2023 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.worxlandroid.internal.codes;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+
+import com.google.gson.annotations.SerializedName;
+
+/**
+ * The {@link CodeTable} maps the constants of an enum to the numeric Worx code declared through
+ * {@link SerializedName}, and back. Unknown codes are mapped to the UNKNOWN constant, constants without a declared
+ * code are given -1.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class CodeTable<E extends Enum<E>> {
+    public static final CodeTable<WorxLandroidStatusCodes> STATUS_CODES = new CodeTable<>(
+            WorxLandroidStatusCodes.class);
+    public static final CodeTable<WorxLandroidErrorCodes> ERROR_CODES = new CodeTable<>(WorxLandroidErrorCodes.class);
+
+    private final int[] toCode;
+    private final @Nullable Object[] byCode;
+    private final E unknown;
+
+    public CodeTable(Class<E> enumClass) {
+        E[] constants = enumClass.getEnumConstants();
+        Map<Integer, E> codes = new HashMap<>();
+        toCode = new int[constants.length];
+        for (E constant : constants) {
+            try {
+                SerializedName annotation = enumClass.getField(constant.name()).getAnnotation(SerializedName.class);
+                int code = annotation != null ? Integer.parseInt(annotation.value()) : -1;
+                if (annotation != null) {
+                    codes.put(code, constant);
+                }
+                toCode[constant.ordinal()] = code;
+            } catch (NoSuchFieldException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+        // Codes start at -1, they are shifted by one to index the lookup table
+        byCode = new Object[codes.keySet().stream().mapToInt(Integer::intValue).max().orElse(0) + 2];
+        codes.forEach((code, constant) -> byCode[code + 1] = constant);
+        unknown = Enum.valueOf(enumClass, "UNKNOWN");
+    }
+
+    public int code(E constant) {
+        return toCode[constant.ordinal()];
+    }
+
+    @SuppressWarnings("unchecked")
+    public E get(int code) {
+        int index = code + 1;
+        Object result = index >= 0 && index < byCode.length ? byCode[index] : null;
+        return result != null ? (E) result : unknown;
+    }
+}
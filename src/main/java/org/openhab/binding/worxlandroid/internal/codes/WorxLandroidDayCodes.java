@@ -35,13 +35,25 @@ public enum WorxLandroidDayCodes {
 
     public final int code;
     public final DayOfWeek dayOfWeek;
+    private final String groupSlot1;
+    private final String groupSlot2;
 
     WorxLandroidDayCodes(int code, DayOfWeek dayOfWeek) {
         this.code = code;
         this.dayOfWeek = dayOfWeek;
+        this.groupSlot1 = getDescription().toLowerCase();
+        this.groupSlot2 = groupSlot1 + "2";
     }
 
     public String getDescription() {
         return dayOfWeek.getDisplayName(TextStyle.FULL, Locale.US);
     }
+
+    /**
+     * @param scDSlot scheduled day slot (1 or 2)
+     * @return the id of the channel group holding the schedule of this day for the given slot
+     */
+    public String getGroupName(int scDSlot) {
+        return scDSlot == 1 ? groupSlot1 : groupSlot2;
+    }
 }
@@ -27,10 +27,16 @@ public class MowerConfiguration {
     public String serialNumber = "";
     public int refreshStatusInterval = 600;
     public int pollingInterval = 3600;
+    public int activePollingInterval = 0;
+    public int alertPollingInterval = 0;
+    public int commandWindow = 1000;
+    public int telemetrySize = 0;
 
     @Override
     public String toString() {
-        return "MowerConfiguration [serialNumber='%s', pollingInterval='%d', refreshStatusInterval='%d']"
-                .formatted(serialNumber, pollingInterval, refreshStatusInterval);
+        return ("MowerConfiguration [serialNumber='%s', pollingInterval='%d', activePollingInterval='%d', "
+                + "alertPollingInterval='%d', refreshStatusInterval='%d', commandWindow='%d', telemetrySize='%d']")
+                .formatted(serialNumber, pollingInterval, activePollingInterval, alertPollingInterval,
+                        refreshStatusInterval, commandWindow, telemetrySize);
     }
 }
@@ -24,9 +24,14 @@ import org.eclipse.jdt.annotation.NonNullByDefault;
 public class WebApiConfiguration {
     public String username = "";
     public String password = "";
+    public int mqttBudget = 120;
+    public int apiBudget = 60;
+    public int cacheTtl = 60;
+    public String mqttEndpoint = "";
 
     @Override
     public String toString() {
-        return "WebApiConfiguration [username='%s', password='*****']".formatted(username);
+        return "WebApiConfiguration [username='%s', password='*****', mqttBudget='%d', apiBudget='%d', cacheTtl='%d']"
+                .formatted(username, mqttBudget, apiBudget, cacheTtl);
     }
 }
@@ -14,13 +14,10 @@ package org.openhab.binding.worxlandroid.internal.discovery;
 
 import static org.openhab.binding.worxlandroid.internal.WorxLandroidBindingConstants.THING_TYPE_MOWER;
 
-import java.util.List;
 import java.util.Set;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.openhab.binding.worxlandroid.internal.WorxLandroidBindingConstants;
-import org.openhab.binding.worxlandroid.internal.api.WebApiException;
-import org.openhab.binding.worxlandroid.internal.api.dto.ProductItemStatus;
 import org.openhab.binding.worxlandroid.internal.config.MowerConfiguration;
 import org.openhab.binding.worxlandroid.internal.handler.WorxLandroidBridgeHandler;
 import org.openhab.core.config.discovery.AbstractDiscoveryService;
@@ -59,8 +56,11 @@ public class MowerDiscoveryService extends AbstractDiscoveryService {
 
     @Override
     protected void startScan() {
-        try {
-            List<ProductItemStatus> productItemsStatusResponse = bridgeHandler.retrieveAllDevices();
+        bridgeHandler.retrieveAllDevices().whenComplete((productItemsStatusResponse, e) -> {
+            if (e != null) {
+                logger.error("Error retrieving mowers of the account: {}", e.getMessage());
+                return;
+            }
             productItemsStatusResponse.forEach(mower -> {
 
                 DiscoveryResult discoveryResult = DiscoveryResultBuilder
@@ -72,9 +72,7 @@ public class MowerDiscoveryService extends AbstractDiscoveryService {
                 thingDiscovered(discoveryResult);
                 logger.debug("Discovered a mower thing with ID '{}'", mower.serialNumber);
             });
-        } catch (WebApiException npe) {
-            logger.error("Error in WebApiException : {}", npe.getMessage());
-        }
+        });
     }
 
     @Override
@@ -12,21 +12,23 @@
  */
 package org.openhab.binding.worxlandroid.internal.handler;
 
-import static org.openhab.binding.worxlandroid.internal.WorxLandroidBindingConstants.*;
+import static org.openhab.binding.worxlandroid.internal.handler.MowerChannel.*;
 
 import java.nio.charset.StandardCharsets;
 import java.time.Duration;
 import java.time.Instant;
+import java.time.ZoneId;
+import java.util.BitSet;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
 import org.openhab.binding.worxlandroid.internal.api.WebApiException;
 import org.openhab.binding.worxlandroid.internal.api.WorxApiDeserializer;
 import org.openhab.binding.worxlandroid.internal.api.dto.Payload;
-import org.openhab.binding.worxlandroid.internal.mqtt.AWSClient;
 import org.openhab.binding.worxlandroid.internal.mqtt.AWSClientCallbackI;
-import org.openhab.core.auth.client.oauth2.AccessTokenRefreshListener;
-import org.openhab.core.auth.client.oauth2.AccessTokenResponse;
+import org.openhab.core.thing.Bridge;
 import org.openhab.core.thing.ChannelUID;
 import org.openhab.core.thing.Thing;
 import org.openhab.core.thing.ThingStatus;
@@ -45,22 +47,23 @@ import software.amazon.awssdk.crt.mqtt.MqttMessage;
  * The{@link AWSClientThingHandler} is handles outside communications (AWS,API) parts
  *
  * @author Gaël L'hopital - Initial contribution
+ * @author agent - AWS connection delegated to the bridge
  *
  */
 @NonNullByDefault
 public abstract class AWSClientThingHandler extends BaseThingHandler
-        implements AWSClientCallbackI, ThingHandlerHelper, AccessTokenRefreshListener {
+        implements AWSClientCallbackI, ThingHandlerHelper {
     private static Duration MIN_PUBLISH_DELAY_S = Duration.ofSeconds(2);
 
     private final Logger logger = LoggerFactory.getLogger(AWSClientThingHandler.class);
-    private final AWSClient awsClient;
+    private final Map<ChannelUID, State> lastStates = new ConcurrentHashMap<>();
     protected final WorxApiDeserializer deserializer;
+    protected final ChannelTable channels;
+    // Replaced as a whole on link events so that updates read it without locking
+    private volatile BitSet linkedChannels = new BitSet();
 
     protected String endpoint = "";
-    protected String uuid = "";
-    protected String userId = "";
     protected String topic = "";
-    protected String token = "";
 
     private Instant lastPublishTS = Instant.MIN;
     private int lastReqHash = 0;
@@ -68,107 +71,160 @@ public abstract class AWSClientThingHandler extends BaseThingHandler
     public AWSClientThingHandler(Thing thing, WorxApiDeserializer deserializer) {
         super(thing);
         this.deserializer = deserializer;
-        this.awsClient = new AWSClient(this);
+        this.channels = new ChannelTable(thing.getUID());
     }
 
     @Override
     public void initialize() {
-        checkInitBridgeOAuth();
+        lastStates.clear();
+        indexChannels();
+        checkBridgeOnline();
+    }
+
+    /**
+     * Collects the linked channels of the table. Has to be called again whenever the channel list of the thing is
+     * modified.
+     */
+    protected synchronized void indexChannels() {
+        BitSet linked = new BitSet(channels.size());
+        getThing().getChannels().forEach(channel -> {
+            ChannelUID channelUID = channel.getUID();
+            int index = channels.indexOf(channelUID);
+            if (index >= 0 && super.isLinked(channelUID)) {
+                linked.set(index);
+            }
+        });
+        linkedChannels = linked;
+    }
+
+    private synchronized void setLinked(ChannelUID channelUID, boolean value) {
+        int index = channels.indexOf(channelUID);
+        if (index >= 0) {
+            BitSet linked = (BitSet) linkedChannels.clone();
+            linked.set(index, value);
+            linkedChannels = linked;
+        }
     }
 
     @Override
     public void bridgeStatusChanged(ThingStatusInfo bridgeStatusInfo) {
-        checkInitBridgeOAuth();
+        checkBridgeOnline();
     }
 
-    private void checkInitBridgeOAuth() {
+    private void checkBridgeOnline() {
         WorxLandroidBridgeHandler bridgeHandler = getBridgeHandler(getBridge(), WorxLandroidBridgeHandler.class);
-        if (bridgeHandler != null) {
-            setAccessToken(bridgeHandler.getAccessToken());
-            bridgeHandler.oAuthClientService.addAccessTokenRefreshListener(this);
-        } else {
+        if (bridgeHandler == null) {
             updateStatus(ThingStatus.OFFLINE, ThingStatusDetail.BRIDGE_OFFLINE);
         }
     }
 
     @Override
     public void dispose() {
-        if (!topic.isEmpty()) {
-            awsClient.unsubscribe(topic);
-        }
-        awsClient.dispose();
-
-        WorxLandroidBridgeHandler bridgeHandler = getBridgeHandler(getBridge(), WorxLandroidBridgeHandler.class);
-        if (bridgeHandler != null) {
-            bridgeHandler.oAuthClientService.removeAccessTokenRefreshListener(this);
+        // The bridge may already be offline, we still have to release our subscription
+        Bridge bridge = getBridge();
+        if (!topic.isEmpty() && bridge != null && bridge.getHandler() instanceof WorxLandroidBridgeHandler handler) {
+            handler.unsubscribe(this, topic);
         }
-
+        lastStates.clear();
         super.dispose();
     }
 
     @Override
     public void onAWSConnectionSuccess() {
-        logger.debug("AWS connection is available");
-        if (!topic.isEmpty()) {
-            awsClient.subscribe(topic, this::onMqttMessage);
-            logger.debug("subscribed to topic: {}", topic);
-        } else {
-            logger.warn("Connected but no topic to subscribe to");
-        }
-
         if (getThing().getStatus() != ThingStatus.ONLINE) {
             updateStatus(ThingStatus.ONLINE);
         }
-        updateChannelOnOff(GROUP_AWS, CHANNEL_CONNECTED, awsClient.isConnected());
+        updateChannelOnOff(channels.get(AWS_CONNECTED), true);
     }
 
     @Override
     public void onAWSConnectionClosed() {
-        // Don't try to reconnect if the connection is closed by the thing being disable
         if (thing.getStatus() == ThingStatus.ONLINE) {
-            updateChannelOnOff(GROUP_AWS, CHANNEL_CONNECTED, awsClient.isConnected());
-
-            WorxLandroidBridgeHandler bridgeHandler = getBridgeHandler(getBridge(), WorxLandroidBridgeHandler.class);
-            if (bridgeHandler != null) {
-                bridgeHandler.requestTokenRefresh();
-            }
+            updateChannelOnOff(channels.get(AWS_CONNECTED), false);
         }
     }
 
     @Override
     public void onAWSConnectionFailed(@Nullable String message) {
-        updateChannelOnOff(GROUP_AWS, CHANNEL_CONNECTED, awsClient.isConnected());
+        updateChannelOnOff(channels.get(AWS_CONNECTED), false);
         updateStatus(ThingStatus.ONLINE, ThingStatusDetail.NONE, "No AWS Connection");
     }
 
+    @Override
+    public void onAWSReconnectScheduled(int attempt, @Nullable Instant nextRetry) {
+        updateChannelDecimal(channels.get(AWS_RECONNECT_ATTEMPTS), attempt);
+        updateChannelDateTime(channels.get(AWS_NEXT_RETRY),
+                nextRetry != null ? nextRetry.atZone(ZoneId.systemDefault()) : null);
+    }
+
+    /**
+     * Answers for the channels of the table from their link state maintained by link events rather than querying the
+     * link registry
+     */
     @Override
     public boolean isLinked(ChannelUID channelUID) {
-        return super.isLinked(channelUID);
+        int index = channels.indexOf(channelUID);
+        return index >= 0 ? linkedChannels.get(index) : super.isLinked(channelUID);
     }
 
+    @Override
+    public void channelLinked(ChannelUID channelUID) {
+        setLinked(channelUID, true);
+        super.channelLinked(channelUID);
+    }
+
+    @Override
+    public void channelUnlinked(ChannelUID channelUID) {
+        setLinked(channelUID, false);
+        lastStates.remove(channelUID);
+        super.channelUnlinked(channelUID);
+    }
+
+    /**
+     * Only publishes states that differ from the last one published on the channel
+     */
     @Override
     public void updateState(ChannelUID channelUID, State state) {
-        super.updateState(channelUID, state);
+        State previous = lastStates.put(channelUID, state);
+        if (!state.equals(previous)) {
+            super.updateState(channelUID, state);
+        }
     }
 
-    public void publishMessage(String topic, String cmd) {
+    /**
+     * @return true if the message was sent
+     */
+    public synchronized boolean publishMessage(String topic, String cmd, boolean background) {
         Instant now = Instant.now();
         int requestHash = topic.hashCode() + cmd.hashCode();
         if (requestHash == lastReqHash) {
             if (now.isBefore(lastPublishTS.plus(MIN_PUBLISH_DELAY_S))) {
                 logger.debug("Won't post again too soon");
-                return;
+                return false;
+            }
+        }
+        WorxLandroidBridgeHandler bridgeHandler = getBridgeHandler(getBridge(), WorxLandroidBridgeHandler.class);
+        if (bridgeHandler != null) {
+            logger.debug("publish on topic: '{}' - message: '{}'", topic, cmd);
+            if (bridgeHandler.publish(topic, cmd, background)) {
+                // Only a message actually sent can make the next identical one a duplicate
+                lastPublishTS = now;
+                lastReqHash = requestHash;
+                return true;
+            } else {
+                logger.warn("MQTT rate limit reached, message '{}' not sent", cmd);
             }
+        } else {
+            logger.warn("Unable to publish on topic '{}' while the bridge is offline", topic);
         }
-        lastPublishTS = now;
-        lastReqHash = requestHash;
-        logger.debug("publish on topic: '{}' - message: '{}'", topic, cmd);
-        awsClient.publish(topic, cmd);
+        return false;
     }
 
     public void onMqttMessage(MqttMessage mqttMessage) {
-        String messagePayload = new String(mqttMessage.getPayload(), StandardCharsets.UTF_8);
-        logger.debug("onMessage: {}", messagePayload);
+        byte[] messagePayload = mqttMessage.getPayload();
+        if (logger.isDebugEnabled()) {
+            logger.debug("onMessage: {}", new String(messagePayload, StandardCharsets.UTF_8));
+        }
         try {
             Payload payload = deserializer.deserialize(Payload.class, messagePayload);
             internalHandlePayload(payload);
@@ -179,40 +235,32 @@ public abstract class AWSClientThingHandler extends BaseThingHandler
 
     protected abstract void internalHandlePayload(Payload payload);
 
-    @Override
-    public void onAccessTokenResponse(AccessTokenResponse tokenResponse) {
-        setAccessToken(tokenResponse.getAccessToken());
-    }
-
-    private void setAccessToken(String token) {
-        this.token = token;
-        connectAWS();
-    }
+    /**
+     * Recomputes and publishes the state of all channels from the last known values
+     */
+    protected abstract void internalRefresh();
 
-    public void connectAws(String mqttEndpoint, String uuid, String userId, String commandOut) {
+    public void connectAws(WorxLandroidBridgeHandler bridgeHandler, String mqttEndpoint, String userId,
+            String commandOut) {
         this.endpoint = mqttEndpoint;
-        this.uuid = uuid;
-        this.userId = userId;
         this.topic = commandOut;
-        connectAWS();
-    }
-
-    private void connectAWS() {
-        awsClient.disconnect();
-        if (endpoint.isEmpty() || userId.isEmpty() || uuid.isEmpty() || token.isEmpty()) {
-            logger.debug("Some data missing to initiate AWS connection");
-            return;
-        }
-        awsClient.connect(endpoint, userId, uuid, token);
-        updateStatus(ThingStatus.ONLINE);
-        updateChannelOnOff(GROUP_AWS, CHANNEL_CONNECTED, awsClient.isConnected());
+        bridgeHandler.subscribe(this, mqttEndpoint, userId, commandOut, this::onMqttMessage);
     }
 
     @Override
     public void handleCommand(ChannelUID channelUID, Command command) {
         if (command instanceof RefreshType) {
+            State lastState = lastStates.get(channelUID);
+            if (lastState != null) {
+                super.updateState(channelUID, lastState);
+            } else {
+                // Nothing published yet on this channel, it will be included in a full refresh
+                internalRefresh();
+            }
             return;
         }
+        // The item may have been auto-updated by the command, what we published last is not reliable anymore
+        lastStates.remove(channelUID);
         if (!isOnline()) {
             logger.error("handleCommand mower: {} is offline!", getThing().getUID());
             return;
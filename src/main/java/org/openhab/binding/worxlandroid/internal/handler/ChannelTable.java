@@ -0,0 +1,135 @@
+/**
+ * Copyright (c) 2010-2023 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.worxlandroid.internal.handler;
+
+import static org.openhab.binding.worxlandroid.internal.WorxLandroidBindingConstants.*;
+
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.openhab.binding.worxlandroid.internal.codes.WorxLandroidDayCodes;
+import org.openhab.core.thing.ChannelUID;
+import org.openhab.core.thing.ThingUID;
+
+/**
+ * The {@link ChannelTable} holds the UIDs of the channels updated from the status of a mower. It is built once per
+ * thing and indexed by ordinal, so that updates neither parse nor hash strings. UIDs of channels removed from the
+ * thing are kept, they are simply never linked. Each UID also has a position in the table, used to keep the link
+ * state of the channels in a bit set.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+class ChannelTable {
+    enum DayChannel {
+        ENABLE(CHANNEL_ENABLE),
+        EDGECUT(CHANNEL_EDGECUT),
+        DURATION(CHANNEL_DURATION),
+        TIME(CHANNEL_TIME);
+
+        private final String channelId;
+
+        DayChannel(String channelId) {
+            this.channelId = channelId;
+        }
+    }
+
+    private static final int SLOTS = 2;
+    private static final MowerChannel[] CHANNELS = MowerChannel.values();
+    private static final WorxLandroidDayCodes[] DAYS = WorxLandroidDayCodes.values();
+    private static final DayChannel[] DAY_CHANNELS = DayChannel.values();
+
+    private final ChannelUID[] channels = new ChannelUID[CHANNELS.length];
+    private final ChannelUID[] zones = new ChannelUID[CHANNEL_ZONES.size()];
+    private final ChannelUID[] allocations = new ChannelUID[CHANNEL_ALLOCATIONS.size()];
+    private final ChannelUID[] days = new ChannelUID[SLOTS * DAYS.length * DAY_CHANNELS.length];
+    // The UIDs of the table are found by identity, those built elsewhere (e.g. link events) by equality
+    private final Map<ChannelUID, Integer> identities = new IdentityHashMap<>();
+    private final Map<ChannelUID, Integer> positions = new HashMap<>();
+
+    ChannelTable(ThingUID thingUID) {
+        for (MowerChannel channel : CHANNELS) {
+            channels[channel.ordinal()] = add(new ChannelUID(thingUID, channel.groupId, channel.channelId));
+        }
+        for (int index = 0; index < zones.length; index++) {
+            zones[index] = add(new ChannelUID(thingUID, GROUP_MULTI_ZONES, CHANNEL_ZONES.get(index)));
+        }
+        for (int index = 0; index < allocations.length; index++) {
+            allocations[index] = add(new ChannelUID(thingUID, GROUP_MULTI_ZONES, CHANNEL_ALLOCATIONS.get(index)));
+        }
+        for (int slot = 1; slot <= SLOTS; slot++) {
+            for (WorxLandroidDayCodes day : DAYS) {
+                for (DayChannel channel : DAY_CHANNELS) {
+                    days[dayIndex(slot, day, channel)] = add(
+                            new ChannelUID(thingUID, day.getGroupName(slot), channel.channelId));
+                }
+            }
+        }
+    }
+
+    private ChannelUID add(ChannelUID channelUID) {
+        int index = identities.size();
+        identities.put(channelUID, index);
+        positions.putIfAbsent(channelUID, index);
+        return channelUID;
+    }
+
+    /**
+     * @return the number of channels in the table
+     */
+    int size() {
+        return identities.size();
+    }
+
+    /**
+     * @return the position of the channel in the table, -1 if it is not part of it
+     */
+    int indexOf(ChannelUID channelUID) {
+        Integer index = identities.get(channelUID);
+        if (index == null) {
+            index = positions.get(channelUID);
+        }
+        return index != null ? index : -1;
+    }
+
+    ChannelUID get(MowerChannel channel) {
+        return channels[channel.ordinal()];
+    }
+
+    /**
+     * @param index zone index, from 0 to 3
+     */
+    ChannelUID zone(int index) {
+        return zones[index];
+    }
+
+    /**
+     * @param index allocation index, from 0 to 9
+     */
+    ChannelUID allocation(int index) {
+        return allocations[index];
+    }
+
+    /**
+     * @param slot scheduled day slot (1 or 2)
+     */
+    ChannelUID day(int slot, WorxLandroidDayCodes day, DayChannel channel) {
+        return days[dayIndex(slot, day, channel)];
+    }
+
+    private static int dayIndex(int slot, WorxLandroidDayCodes day, DayChannel channel) {
+        return ((slot - 1) * DAYS.length + day.ordinal()) * DAY_CHANNELS.length + channel.ordinal();
+    }
+}
@@ -0,0 +1,133 @@
+/**
+ * Copyright (c) 2010-2023 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.worxlandroid.internal.handler;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+
+/**
+ * The {@link CommandQueue} batches the commands sent to a mower within a time window and merges them into a single
+ * JSON document. Nested objects are merged, arrays are full state snapshots and the latest one wins. Two commands
+ * setting different values to the same field can not be merged: the pending document is sent first. Action commands
+ * (`cmd`) are never delayed, nor are polls (empty documents) when no document is pending. A merged document is a
+ * background one only if all its commands are.
+ *
+ * @author agent - Initial contribution
+ *
+ */
+@NonNullByDefault
+class CommandQueue {
+    private static final String ACTION_FIELD = "cmd";
+
+    private final Logger logger = LoggerFactory.getLogger(CommandQueue.class);
+    private final ScheduledExecutorService scheduler;
+    private final Publisher publisher;
+    private final long windowMs;
+
+    private @Nullable JsonObject pending;
+    private boolean pendingBackground;
+    private Optional<ScheduledFuture<?>> flushJob = Optional.empty();
+
+    @FunctionalInterface
+    interface Publisher {
+        /**
+         * @return false if the document was not sent, e.g. because of the rate limit
+         */
+        boolean publish(String json, boolean background);
+    }
+
+    CommandQueue(ScheduledExecutorService scheduler, long windowMs, Publisher publisher) {
+        this.scheduler = scheduler;
+        this.windowMs = windowMs;
+        this.publisher = publisher;
+    }
+
+    /**
+     * @return false if the command was sent right away and refused by the publisher
+     */
+    synchronized boolean submit(JsonObject command, boolean background) {
+        if (windowMs <= 0 || command.has(ACTION_FIELD) || (command.size() == 0 && pending == null)) {
+            flush();
+            return publisher.publish(command.toString(), background);
+        }
+        JsonObject current = pending;
+        if (current != null && !canMerge(current, command)) {
+            flush();
+            current = null;
+        }
+        if (current == null) {
+            pending = command.deepCopy();
+            pendingBackground = background;
+            flushJob = Optional.of(scheduler.schedule(this::flush, windowMs, TimeUnit.MILLISECONDS));
+        } else {
+            logger.debug("Merging command {} with pending {}", command, current);
+            merge(current, command);
+            pendingBackground &= background;
+        }
+        return true;
+    }
+
+    synchronized void flush() {
+        flushJob.ifPresent(job -> job.cancel(false));
+        flushJob = Optional.empty();
+        JsonObject current = pending;
+        pending = null;
+        if (current != null) {
+            publisher.publish(current.toString(), pendingBackground);
+        }
+    }
+
+    synchronized void dispose() {
+        flushJob.ifPresent(job -> job.cancel(false));
+        flushJob = Optional.empty();
+        pending = null;
+    }
+
+    private static boolean canMerge(JsonObject target, JsonObject source) {
+        for (Map.Entry<String, JsonElement> entry : source.entrySet()) {
+            JsonElement existing = target.get(entry.getKey());
+            JsonElement value = entry.getValue();
+            if (existing == null || value.isJsonArray() || existing.equals(value)) {
+                continue;
+            }
+            if (!existing.isJsonObject() || !value.isJsonObject()
+                    || !canMerge(existing.getAsJsonObject(), value.getAsJsonObject())) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static void merge(JsonObject target, JsonObject source) {
+        source.entrySet().forEach(entry -> {
+            JsonElement existing = target.get(entry.getKey());
+            JsonElement value = entry.getValue();
+            if (existing != null && existing.isJsonObject() && value.isJsonObject()) {
+                merge(existing.getAsJsonObject(), value.getAsJsonObject());
+            } else {
+                target.add(entry.getKey(), value.deepCopy());
+            }
+        });
+    }
+}
@@ -0,0 +1,80 @@
+/**
+ * Copyright (c) 2010-2023 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.worxlandroid.internal.handler;
+
+import static org.openhab.binding.worxlandroid.internal.WorxLandroidBindingConstants.*;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+
+/**
+ * The {@link MowerChannel} lists the channels of a mower updated from its status. Their UIDs are looked up in a
+ * {@link ChannelTable} by ordinal.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+enum MowerChannel {
+    ONLINE_TIMESTAMP(GROUP_COMMON, CHANNEL_ONLINE_TIMESTAMP),
+    ONLINE(GROUP_COMMON, CHANNEL_ONLINE),
+    STATUS(GROUP_COMMON, CHANNEL_STATUS_CODE),
+    ERROR(GROUP_COMMON, CHANNEL_ERROR_CODE),
+    LOCK(GROUP_COMMON, CHANNEL_LOCK),
+    ENABLE(GROUP_COMMON, CHANNEL_ENABLE),
+    AWS_POLL(GROUP_AWS, CHANNEL_POLL),
+    AWS_CONNECTED(GROUP_AWS, CHANNEL_CONNECTED),
+    AWS_RECONNECT_ATTEMPTS(GROUP_AWS, CHANNEL_RECONNECT_ATTEMPTS),
+    AWS_NEXT_RETRY(GROUP_AWS, CHANNEL_NEXT_RETRY),
+    CONFIG_TIMESTAMP(GROUP_CONFIG, CHANNEL_TIMESTAMP),
+    CONFIG_COMMAND(GROUP_CONFIG, CHANNEL_COMMAND),
+    PITCH(GROUP_ORIENTATION, CHANNEL_PITCH),
+    ROLL(GROUP_ORIENTATION, CHANNEL_ROLL),
+    YAW(GROUP_ORIENTATION, CHANNEL_YAW),
+    LAST_ZONE(GROUP_MULTI_ZONES, CHANNEL_LAST_ZONE),
+    MULTI_ZONES_ENABLE(GROUP_MULTI_ZONES, CHANNEL_ENABLE),
+    BATTERY_TEMPERATURE(GROUP_BATTERY, CHANNEL_TEMPERATURE),
+    BATTERY_VOLTAGE(GROUP_BATTERY, CHANNEL_VOLTAGE),
+    BATTERY_LEVEL(GROUP_BATTERY, CHANNEL_LEVEL),
+    BATTERY_CHARGING(GROUP_BATTERY, CHANNEL_CHARGING),
+    CHARGE_CYCLES(GROUP_BATTERY, CHANNEL_CHARGE_CYCLES),
+    CHARGE_CYCLES_TOTAL(GROUP_BATTERY, CHANNEL_CHARGE_CYCLES_TOTAL),
+    BLADE_TIME(GROUP_METRICS, CHANNEL_BLADE_TIME),
+    BLADE_TIME_TOTAL(GROUP_METRICS, CHANNEL_BLADE_TIME_TOTAL),
+    DISTANCE(GROUP_METRICS, CHANNEL_DISTANCE),
+    TOTAL_TIME(GROUP_METRICS, CHANNEL_TOTAL_TIME),
+    WIFI_QUALITY(GROUP_WIFI, CHANNEL_WIFI_QUALITY),
+    RSSI(GROUP_WIFI, CHANNEL_RSSI),
+    RAIN_STATE(GROUP_RAIN, CHANNEL_RAIN_STATE),
+    RAIN_COUNTER(GROUP_RAIN, CHANNEL_RAIN_COUNTER),
+    RAIN_DELAY(GROUP_RAIN, CHANNEL_DELAY),
+    ONE_TIME_EDGECUT(GROUP_ONE_TIME, CHANNEL_EDGECUT),
+    ONE_TIME_DURATION(GROUP_ONE_TIME, CHANNEL_DURATION),
+    SCHEDULE_MODE(GROUP_SCHEDULE, CHANNEL_MODE),
+    TIME_EXTENSION(GROUP_SCHEDULE, CHANNEL_TIME_EXTENSION),
+    NEXT_START(GROUP_SCHEDULE, CHANNEL_START),
+    NEXT_STOP(GROUP_SCHEDULE, CHANNEL_STOP),
+    TIMELINE(GROUP_SCHEDULE, CHANNEL_TIMELINE),
+    SESSION_ACTIVE(GROUP_SESSION, CHANNEL_ACTIVE),
+    SESSION_START(GROUP_SESSION, CHANNEL_SESSION_START),
+    SESSION_DURATION(GROUP_SESSION, CHANNEL_DURATION),
+    SESSION_DISTANCE(GROUP_SESSION, CHANNEL_DISTANCE),
+    SESSION_BATTERY_CONSUMED(GROUP_SESSION, CHANNEL_BATTERY_CONSUMED),
+    SESSION_ZONE(GROUP_SESSION, CHANNEL_ZONE);
+
+    public final String groupId;
+    public final String channelId;
+
+    MowerChannel(String groupId, String channelId) {
+        this.groupId = groupId;
+        this.channelId = channelId;
+    }
+}
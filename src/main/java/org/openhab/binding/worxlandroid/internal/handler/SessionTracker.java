@@ -0,0 +1,83 @@
+/**
+ * Copyright (c) 2010-2023 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.worxlandroid.internal.handler;
+
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.util.EnumSet;
+import java.util.Optional;
+import java.util.Set;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.binding.worxlandroid.internal.codes.WorxLandroidStatusCodes;
+import org.openhab.binding.worxlandroid.internal.vo.Mower;
+
+/**
+ * The {@link SessionTracker} follows the status of a mower to detect its mowing sessions: a session starts when the
+ * mower leaves home to work and ends when it is back home. Each status message updates the running session in constant
+ * time, the last session stays available once ended.
+ *
+ * @author agent - Initial contribution
+ *
+ */
+@NonNullByDefault
+class SessionTracker {
+    private static final Set<WorxLandroidStatusCodes> WORKING = EnumSet.of(WorxLandroidStatusCodes.START_SEQUENCE,
+            WorxLandroidStatusCodes.LEAVING_HOME, WorxLandroidStatusCodes.FOLLOW_WIRE, WorxLandroidStatusCodes.MOWING,
+            WorxLandroidStatusCodes.BORDER_CUT, WorxLandroidStatusCodes.SEARCHING_ZONE,
+            WorxLandroidStatusCodes.ZONE_TRAINING);
+
+    record Session(boolean active, ZonedDateTime start, Duration duration, int distance, int batteryConsumed,
+            int zone) {
+    }
+
+    private @Nullable Session session;
+    private int startDistance;
+    private int startBattery;
+    private int minBattery;
+
+    /**
+     * Feeds the tracker with the last status of the mower.
+     *
+     * @param now time the status was received, the mower timestamp may be missing
+     * @return the session updated by this status, if any
+     */
+    synchronized Optional<Session> update(Mower mower, ZonedDateTime now) {
+        WorxLandroidStatusCodes status = mower.getStatusCode();
+        int distance = mower.getStats().map(stats -> stats.distanceCovered).orElse(-1);
+        int battery = mower.getBattery().map(bt -> bt.level).orElse(-1);
+
+        Session current = session;
+        if (current == null || !current.active()) {
+            if (!WORKING.contains(status)) {
+                return Optional.empty();
+            }
+            startDistance = Math.max(0, distance);
+            startBattery = minBattery = battery;
+            current = new Session(true, now, Duration.ZERO, 0, 0, mower.getLastZone());
+        } else {
+            minBattery = battery >= 0 && (minBattery < 0 || battery < minBattery) ? battery : minBattery;
+            current = new Session(status != WorxLandroidStatusCodes.HOME, current.start(),
+                    Duration.between(current.start(), now), Math.max(0, distance - startDistance),
+                    startBattery >= 0 ? startBattery - minBattery : 0,
+                    status == WorxLandroidStatusCodes.MOWING ? mower.getLastZone() : current.zone());
+        }
+        session = current;
+        return Optional.of(current);
+    }
+
+    synchronized Optional<Session> getSession() {
+        return Optional.ofNullable(session);
+    }
+}
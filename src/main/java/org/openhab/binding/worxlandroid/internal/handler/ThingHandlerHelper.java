@@ -89,42 +89,82 @@ public interface ThingHandlerHelper {
     }
 
     public default void updateIfActive(String group, String channelId, State state) {
-        ChannelUID id = getChannelUID(group, channelId);
+        updateIfActive(getChannelUID(group, channelId), state);
+    }
+
+    public default void updateIfActive(ChannelUID id, State state) {
         if (isLinked(id)) {
             updateState(id, state);
         }
     }
 
+    /*
+     * The following methods check that the channel is linked before building the state. Those taking the group and
+     * channel ids build the channel UID first, the others are meant for UIDs looked up in a table.
+     */
+
     public default void updateChannelOnOff(String group, String channelId, boolean value) {
-        updateIfActive(group, channelId, OnOffType.from(value));
+        updateChannelOnOff(getChannelUID(group, channelId), value);
+    }
+
+    public default void updateChannelOnOff(ChannelUID id, boolean value) {
+        updateIfActive(id, OnOffType.from(value));
     }
 
     public default void updateChannelDateTime(String group, String channelId, @Nullable ZonedDateTime timestamp) {
-        updateIfActive(group, channelId, timestamp == null ? UnDefType.NULL : new DateTimeType(timestamp));
+        updateChannelDateTime(getChannelUID(group, channelId), timestamp);
+    }
+
+    public default void updateChannelDateTime(ChannelUID id, @Nullable ZonedDateTime timestamp) {
+        if (isLinked(id)) {
+            updateState(id, timestamp == null ? UnDefType.NULL : new DateTimeType(timestamp));
+        }
     }
 
     public default void updateChannelString(String group, String channelId, @Nullable String value) {
-        updateIfActive(group, channelId, value == null || value.isEmpty() ? UnDefType.NULL : new StringType(value));
+        updateChannelString(getChannelUID(group, channelId), value);
+    }
+
+    public default void updateChannelString(ChannelUID id, @Nullable String value) {
+        if (isLinked(id)) {
+            updateState(id, value == null || value.isEmpty() ? UnDefType.NULL : new StringType(value));
+        }
     }
 
     public default void updateChannelEnum(String group, String channelId, @Nullable Enum<?> value) {
+        updateChannelEnum(getChannelUID(group, channelId), value);
+    }
+
+    public default void updateChannelEnum(ChannelUID id, @Nullable Enum<?> value) {
         String name = value != null ? value.name() : null;
-        updateChannelString(group, channelId, name == null || "UNKNOWN".equals(name) ? null : name);
+        updateChannelString(id, name == null || "UNKNOWN".equals(name) ? null : name);
     }
 
     public default void updateChannelDecimal(String group, String channelId, @Nullable Number value) {
-        updateIfActive(group, channelId, value == null || value.equals(-1) ? UnDefType.NULL : new DecimalType(value));
+        updateChannelDecimal(getChannelUID(group, channelId), value);
+    }
+
+    public default void updateChannelDecimal(ChannelUID id, @Nullable Number value) {
+        if (isLinked(id)) {
+            updateState(id, value == null || value.equals(-1) ? UnDefType.NULL : new DecimalType(value));
+        }
     }
 
     public default void updateChannelQuantity(String group, String channelId, @Nullable QuantityType<?> quantity) {
-        updateIfActive(group, channelId, quantity != null ? quantity : UnDefType.NULL);
+        updateChannelQuantity(getChannelUID(group, channelId), quantity);
+    }
+
+    public default void updateChannelQuantity(ChannelUID id, @Nullable QuantityType<?> quantity) {
+        updateIfActive(id, quantity != null ? quantity : UnDefType.NULL);
     }
 
     public default void updateChannelQuantity(String group, String channelId, @Nullable Number d, Unit<?> unit) {
-        if (d == null) {
-            updateIfActive(group, channelId, UnDefType.NULL);
-        } else {
-            updateChannelQuantity(group, channelId, new QuantityType<>(d, unit));
+        updateChannelQuantity(getChannelUID(group, channelId), d, unit);
+    }
+
+    public default void updateChannelQuantity(ChannelUID id, @Nullable Number d, Unit<?> unit) {
+        if (isLinked(id)) {
+            updateState(id, d == null ? UnDefType.NULL : new QuantityType<>(d, unit));
         }
     }
 }
@@ -0,0 +1,67 @@
+/**
+ * Copyright (c) 2010-2023 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.worxlandroid.internal.handler;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+
+/**
+ * The {@link TokenBucket} limits the number of requests sent to the Worx cloud. It is refilled continuously with
+ * the hourly budget and can hold a quarter of it. Background requests can not use the last tokens, which are kept for
+ * user commands. A budget of 0 disables the limitation.
+ *
+ * @author agent - Initial contribution
+ *
+ */
+@NonNullByDefault
+class TokenBucket {
+    private static final double RESERVE_RATIO = 0.2;
+
+    private final double capacity;
+    private final double reserve;
+    private final double refillPerNano;
+    private final boolean unlimited;
+
+    private double tokens;
+    private long lastRefill = System.nanoTime();
+
+    TokenBucket(int hourlyBudget) {
+        this.capacity = Math.max(1, hourlyBudget / 4.0);
+        this.reserve = capacity * RESERVE_RATIO;
+        this.refillPerNano = hourlyBudget / 3.6e12;
+        this.tokens = capacity;
+        this.unlimited = hourlyBudget <= 0;
+    }
+
+    synchronized boolean tryAcquire(boolean background) {
+        if (unlimited) {
+            return true;
+        }
+        refill();
+        if (tokens - 1 < (background ? reserve : 0)) {
+            return false;
+        }
+        tokens--;
+        return true;
+    }
+
+    synchronized int available() {
+        refill();
+        return (int) tokens;
+    }
+
+    private void refill() {
+        long now = System.nanoTime();
+        tokens = Math.min(capacity, tokens + (now - lastRefill) * refillPerNano);
+        lastRefill = now;
+    }
+}
@@ -12,19 +12,35 @@
  */
 package org.openhab.binding.worxlandroid.internal.handler;
 
+import static org.openhab.binding.worxlandroid.internal.WorxLandroidBindingConstants.*;
+
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ThreadLocalRandom;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
 import org.openhab.binding.worxlandroid.internal.api.WebApiException;
 import org.openhab.binding.worxlandroid.internal.api.WorxApiHandler;
 import org.openhab.binding.worxlandroid.internal.api.dto.ProductItemStatus;
-import org.openhab.binding.worxlandroid.internal.api.dto.UsersMeResponse;
 import org.openhab.binding.worxlandroid.internal.config.WebApiConfiguration;
+import org.openhab.binding.worxlandroid.internal.mqtt.AWSClient;
+import org.openhab.binding.worxlandroid.internal.mqtt.AWSClientCallbackI;
 import org.openhab.core.auth.client.oauth2.AccessTokenRefreshListener;
 import org.openhab.core.auth.client.oauth2.AccessTokenResponse;
 import org.openhab.core.auth.client.oauth2.OAuthClientService;
@@ -41,43 +57,86 @@ import org.openhab.core.types.State;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import software.amazon.awssdk.crt.mqtt.MqttMessage;
+
 /**
  * The {@link WorxLandroidBridgeHandler} is responsible for handling commands, which are
  * sent to one of the channels.
  *
  * @author Nils - Initial contribution
  * @author Gaël L'hopital - Refactored with oAuthFactory, removed AWSClient
+ * @author agent - AWSClient shared by all mowers of the account
  */
 @NonNullByDefault
 public class WorxLandroidBridgeHandler extends BaseBridgeHandler
-        implements AccessTokenRefreshListener, ThingHandlerHelper {
-    private static final String URL_OAUTH_TOKEN = "https://id.worx.com/oauth/token";
+        implements AccessTokenRefreshListener, ThingHandlerHelper, AWSClientCallbackI {
     private static final String CLIENT_ID = "013132A8-DB34-4101-B993-3C8348EA0EBC";
+    private static final long TOKEN_REFRESH_MARGIN_S = 300;
+    private static final int TOKEN_REFRESH_RETRIES = 3;
+    private static final long TOKEN_RETRY_BASE_DELAY_S = 60;
+    private static final long RECONNECT_BASE_DELAY_S = 10;
+    private static final long RECONNECT_MAX_DELAY_S = 1800;
 
     private final Logger logger = LoggerFactory.getLogger(WorxLandroidBridgeHandler.class);
     private final WorxApiHandler apiHandler;
     private final OAuthFactory oAuthFactory;
+    private final AWSClient awsClient;
+    private final Set<AWSClientCallbackI> awsListeners = ConcurrentHashMap.newKeySet();
+    private final Map<String, StatusListener> statusListeners = new ConcurrentHashMap<>();
+    private final String clientUuid;
+    private final AtomicBoolean refreshing = new AtomicBoolean();
+    // Guards tokenRefreshJob, tokenRetries and tokenRefreshFailed, used by the refresh, its retries and dispose
+    private final Object tokenLock = new Object();
 
     public final OAuthClientService oAuthClientService;
 
-    private String accessToken = "";
-    private int retryCount = 3;
-    private int retryDelayS = 1;
+    private volatile String accessToken = "";
+    private volatile Instant tokenExpiry = Instant.MAX;
+    private String awsEndpoint = "";
+    private String awsUserId = "";
+    private String endpointOverride = "";
+    private int tokenRetries = 0;
+    private boolean tokenRefreshFailed;
+    private int reconnectAttempts = 0;
+    private boolean disposed;
     private Optional<ScheduledFuture<?>> tokenRefreshJob = Optional.empty();
+    private Optional<ScheduledFuture<?>> tokenExpiryJob = Optional.empty();
+    private Optional<ScheduledFuture<?>> reconnectJob = Optional.empty();
     private Optional<ScheduledFuture<?>> connectionJob = Optional.empty();
+    private Optional<ScheduledFuture<?>> rateLimitJob = Optional.empty();
+    private Optional<ScheduledFuture<?>> refreshJob = Optional.empty();
+    private int refreshInterval = 0;
+    private TokenBucket mqttBucket = new TokenBucket(0);
+    private TokenBucket apiBucket = new TokenBucket(0);
+    private Duration cacheTtl = Duration.ZERO;
+    private volatile @Nullable CachedProducts cachedProducts;
+    private @Nullable CompletableFuture<List<ProductItemStatus>> pendingProducts;
+
+    private record CachedProducts(Instant expiry, List<ProductItemStatus> products) {
+    }
+
+    private record StatusListener(int interval, Consumer<@Nullable ProductItemStatus> consumer) {
+    }
 
     public WorxLandroidBridgeHandler(Bridge bridge, WorxApiHandler apiHandler, OAuthFactory oAuthFactory) {
         super(bridge);
         this.apiHandler = apiHandler;
         this.oAuthFactory = oAuthFactory;
         this.oAuthClientService = oAuthFactory.createOAuthClientService(getThing().getUID().getAsString(),
-                URL_OAUTH_TOKEN, null, CLIENT_ID, null, "*", true);
+                apiHandler.getOAuthTokenUrl(), null, CLIENT_ID, null, "*", true);
         oAuthClientService.addAccessTokenRefreshListener(this);
+        this.awsClient = new AWSClient(this);
+        // Stable client id so that the persistent MQTT session is kept across restarts
+        this.clientUuid = UUID.nameUUIDFromBytes(getThing().getUID().getAsString().getBytes(StandardCharsets.UTF_8))
+                .toString();
     }
 
     @Override
     public void initialize() {
         logger.debug("Initializing Landroid API bridge handler.");
+        synchronized (this) {
+            disposed = false;
+        }
         WebApiConfiguration config = getConfigAs(WebApiConfiguration.class);
 
         if (config.username.isBlank()) {
@@ -90,22 +149,39 @@ public class WorxLandroidBridgeHandler extends BaseBridgeHandler
             return;
         }
 
+        mqttBucket = new TokenBucket(config.mqttBudget);
+        apiBucket = new TokenBucket(config.apiBudget);
+        cacheTtl = Duration.ofSeconds(config.cacheTtl);
+        endpointOverride = config.mqttEndpoint.trim();
+        cachedProducts = null;
+        rateLimitJob = Optional.of(scheduler.scheduleWithFixedDelay(this::updateRateLimitChannels, 1, 1,
+                TimeUnit.MINUTES));
+
         scheduler.execute(() -> initiateConnection(config.username, config.password));
     }
 
     private void initiateConnection(String username, String password) {
         stopConnectionJob();
         try {
-            accessToken = oAuthClientService.getAccessTokenByResourceOwnerPasswordCredentials(username, password, "*")
-                    .getAccessToken();
+            setAccessToken(
+                    oAuthClientService.getAccessTokenByResourceOwnerPasswordCredentials(username, password, "*"));
 
             if (firstLaunch()) {
-                UsersMeResponse user = apiHandler.retrieveMe(accessToken);
-                updateProperties(apiHandler.getDeserializer().toMap(user));
+                // The bridge goes online once the account properties are known
+                apiHandler.retrieveMe(accessToken).whenComplete((user, e) -> {
+                    if (e != null) {
+                        Throwable cause = e.getCause();
+                        updateStatus(ThingStatus.OFFLINE, ThingStatusDetail.COMMUNICATION_ERROR,
+                                (cause != null ? cause : e).getMessage());
+                    } else {
+                        updateProperties(apiHandler.getDeserializer().toMap(user));
+                        updateStatus(ThingStatus.ONLINE);
+                    }
+                });
+            } else {
+                updateStatus(ThingStatus.ONLINE);
             }
-
-            updateStatus(ThingStatus.ONLINE);
-        } catch (IOException | WebApiException e) {
+        } catch (IOException e) {
             updateStatus(ThingStatus.OFFLINE, ThingStatusDetail.COMMUNICATION_ERROR, e.getMessage());
         } catch (OAuthResponseException e) {
             updateStatus(ThingStatus.OFFLINE, ThingStatusDetail.CONFIGURATION_ERROR, "@text/oauth-connection-error");
@@ -132,8 +208,21 @@ public class WorxLandroidBridgeHandler extends BaseBridgeHandler
 
     @Override
     public void dispose() {
+        rateLimitJob.ifPresent(job -> job.cancel(true));
+        rateLimitJob = Optional.empty();
+        stopRefreshJob();
+        statusListeners.clear();
         stopConnectionJob();
         stopTokenRefreshJob();
+        tokenExpiryJob.ifPresent(job -> job.cancel(true));
+        tokenExpiryJob = Optional.empty();
+        synchronized (this) {
+            disposed = true;
+            reconnectJob.ifPresent(job -> job.cancel(true));
+            reconnectJob = Optional.empty();
+        }
+        awsClient.dispose();
+        awsListeners.clear();
 
         oAuthClientService.removeAccessTokenRefreshListener(this);
         oAuthFactory.ungetOAuthService(getThing().getUID().getAsString());
@@ -141,8 +230,18 @@ public class WorxLandroidBridgeHandler extends BaseBridgeHandler
     }
 
     private void stopTokenRefreshJob() {
-        tokenRefreshJob.ifPresent(job -> job.cancel(true));
-        tokenRefreshJob = Optional.empty();
+        synchronized (tokenLock) {
+            tokenRefreshJob.ifPresent(job -> job.cancel(true));
+            tokenRefreshJob = Optional.empty();
+            tokenRetries = 0;
+            tokenRefreshFailed = false;
+        }
+    }
+
+    private void stopRefreshJob() {
+        refreshJob.ifPresent(job -> job.cancel(true));
+        refreshJob = Optional.empty();
+        refreshInterval = 0;
     }
 
     private void stopConnectionJob() {
@@ -150,31 +249,85 @@ public class WorxLandroidBridgeHandler extends BaseBridgeHandler
         connectionJob = Optional.empty();
     }
 
+    /**
+     * Each refresh returns a new token. An established AWS connection keeps the token it was opened with, the new one
+     * is used by the next reconnection.
+     */
     @Override
     public void onAccessTokenResponse(AccessTokenResponse tokenResponse) {
+        setAccessToken(tokenResponse);
+    }
+
+    /**
+     * Stores the token and plans its refresh shortly before it expires
+     */
+    private synchronized void setAccessToken(AccessTokenResponse tokenResponse) {
         accessToken = tokenResponse.getAccessToken();
+
+        tokenExpiryJob.ifPresent(job -> job.cancel(false));
+        long expiresIn = tokenResponse.getExpiresIn();
+        if (expiresIn > 0) {
+            tokenExpiry = Instant.now().plusSeconds(expiresIn);
+            long delay = Math.max(expiresIn - TOKEN_REFRESH_MARGIN_S, expiresIn / 2);
+            tokenExpiryJob = Optional.of(scheduler.schedule(this::requestTokenRefresh, delay, TimeUnit.SECONDS));
+        } else {
+            tokenExpiry = Instant.MAX;
+            tokenExpiryJob = Optional.empty();
+        }
     }
 
-    public void requestTokenRefresh() {
-        if (tokenRefreshJob.isPresent()) {
-            return;
+    private boolean isTokenExpiring() {
+        return Instant.now().isAfter(tokenExpiry.minusSeconds(TOKEN_REFRESH_MARGIN_S));
+    }
+
+    /**
+     * Refreshes the token, unless a refresh is already running or planned after a failure. Failures other than a
+     * refusal of the server are retried with an exponential backoff.
+     */
+    private void requestTokenRefresh() {
+        synchronized (tokenLock) {
+            if (tokenRefreshJob.isPresent() || !refreshing.compareAndSet(false, true)) {
+                logger.debug("Token refresh already in progress");
+                return;
+            }
         }
 
         try {
             oAuthClientService.refreshToken();
-            retryCount = 3;
-            stopTokenRefreshJob();
-        } catch (IOException | OAuthResponseException e) {
+            boolean recovered;
+            synchronized (tokenLock) {
+                recovered = tokenRefreshFailed;
+                tokenRetries = 0;
+                tokenRefreshFailed = false;
+            }
+            if (recovered) {
+                updateStatus(ThingStatus.ONLINE);
+            }
+        } catch (OAuthResponseException e) {
             updateStatus(ThingStatus.OFFLINE, ThingStatusDetail.COMMUNICATION_ERROR, e.getMessage());
-        } catch (OAuthException e) {
-            if (retryCount > 0) {
-                tokenRefreshJob = Optional.of(scheduler.schedule(() -> {
-                    retryCount--;
-                    requestTokenRefresh();
-                }, retryDelayS, TimeUnit.MINUTES));
-            } else {
+        } catch (IOException | OAuthException e) {
+            logger.debug("Token refresh failed: {}", e.getMessage());
+            boolean exhausted;
+            synchronized (tokenLock) {
+                exhausted = tokenRetries >= TOKEN_REFRESH_RETRIES;
+                if (exhausted) {
+                    tokenRetries = 0;
+                    tokenRefreshFailed = true;
+                } else {
+                    long delay = TOKEN_RETRY_BASE_DELAY_S << tokenRetries++;
+                    tokenRefreshJob = Optional.of(scheduler.schedule(() -> {
+                        synchronized (tokenLock) {
+                            tokenRefreshJob = Optional.empty();
+                        }
+                        requestTokenRefresh();
+                    }, delay, TimeUnit.SECONDS));
+                }
+            }
+            if (exhausted) {
                 updateStatus(ThingStatus.OFFLINE, ThingStatusDetail.COMMUNICATION_ERROR, "@text/oauth-refresh-error");
             }
+        } finally {
+            refreshing.set(false);
         }
     }
 
@@ -182,20 +335,224 @@ public class WorxLandroidBridgeHandler extends BaseBridgeHandler
         return accessToken;
     }
 
-    public @Nullable ProductItemStatus retrieveDeviceStatus(String serialNumber) throws WebApiException {
-        return apiHandler.retrieveDeviceStatus(accessToken, serialNumber);
+    public CompletableFuture<@Nullable ProductItemStatus> retrieveDeviceStatus(String serialNumber) {
+        return retrieveProducts(false).thenApply(products -> products.stream()
+                .filter(product -> serialNumber.equals(product.serialNumber)).findFirst().orElse(null));
+    }
+
+    public CompletableFuture<List<ProductItemStatus>> retrieveAllDevices() {
+        return retrieveProducts(false);
+    }
+
+    /**
+     * Product items of the account, served from the cache until its TTL expires. Callers arriving while a request is
+     * pending share it, so that a single token of the rate limit is used.
+     */
+    private synchronized CompletableFuture<List<ProductItemStatus>> retrieveProducts(boolean background) {
+        CachedProducts cached = cachedProducts;
+        if (cached != null && Instant.now().isBefore(cached.expiry())) {
+            return CompletableFuture.completedFuture(cached.products());
+        }
+        CompletableFuture<List<ProductItemStatus>> pending = pendingProducts;
+        if (pending == null || pending.isDone()) {
+            pending = rateLimited(background, () -> apiHandler.retrieveDeviceStatus(accessToken).thenApply(products -> {
+                cachedProducts = new CachedProducts(Instant.now().plus(cacheTtl), products);
+                return products;
+            }));
+            pendingProducts = pending;
+        }
+        return pending.copy();
+    }
+
+    public CompletableFuture<Boolean> resetBladeTime(String serialNumber) {
+        return resetCounter(() -> apiHandler.resetBladeTime(accessToken, serialNumber));
+    }
+
+    public CompletableFuture<Boolean> resetBatteryCycles(String serialNumber) {
+        return resetCounter(() -> apiHandler.resetBatteryCycles(accessToken, serialNumber));
+    }
+
+    private CompletableFuture<Boolean> resetCounter(Supplier<CompletableFuture<Boolean>> request) {
+        return rateLimited(false, request).thenApply(done -> {
+            if (done) {
+                cachedProducts = null;
+            }
+            return done;
+        });
+    }
+
+    /**
+     * Registers a mower in the refresh cycle of the bridge. All mowers are refreshed with a single request to the
+     * product items list, at the shortest interval requested.
+     *
+     * @param serialNumber serial number of the mower
+     * @param interval requested refresh interval in seconds
+     * @param consumer receives the status of the mower, null if it is not part of the account anymore
+     */
+    public synchronized void registerStatusListener(String serialNumber, int interval,
+            Consumer<@Nullable ProductItemStatus> consumer) {
+        statusListeners.put(serialNumber, new StatusListener(interval, consumer));
+        rescheduleRefresh();
     }
 
-    public List<ProductItemStatus> retrieveAllDevices() throws WebApiException {
-        return apiHandler.retrieveDeviceStatus(accessToken);
+    public synchronized void unregisterStatusListener(String serialNumber) {
+        if (statusListeners.remove(serialNumber) != null) {
+            rescheduleRefresh();
+        }
+    }
+
+    private void rescheduleRefresh() {
+        int interval = statusListeners.values().stream().mapToInt(StatusListener::interval).min().orElse(0);
+        if (interval == refreshInterval && refreshJob.isPresent()) {
+            return;
+        }
+        stopRefreshJob();
+        if (interval > 0) {
+            refreshInterval = interval;
+            refreshJob = Optional
+                    .of(scheduler.scheduleWithFixedDelay(this::refreshDevices, 3, interval, TimeUnit.SECONDS));
+        }
+    }
+
+    private void refreshDevices() {
+        retrieveProducts(true).whenCompleteAsync((products, e) -> {
+            if (e != null) {
+                logger.debug("Refreshing mowers status failed: {}", e.getMessage());
+                return;
+            }
+            Map<String, ProductItemStatus> bySerial = products.stream()
+                    .collect(Collectors.toMap(product -> product.serialNumber, product -> product, (a, b) -> a));
+            statusListeners.forEach((serialNumber, listener) -> listener.consumer().accept(bySerial.get(serialNumber)));
+        }, scheduler);
+    }
+
+    private <T> CompletableFuture<T> rateLimited(boolean background, Supplier<CompletableFuture<T>> request) {
+        return apiBucket.tryAcquire(background) ? request.get()
+                : CompletableFuture.failedFuture(new WebApiException("API rate limit reached, request not sent"));
+    }
+
+    private void updateRateLimitChannels() {
+        updateChannelDecimal(GROUP_RATE_LIMIT, CHANNEL_MQTT_TOKENS, mqttBucket.available());
+        updateChannelDecimal(GROUP_RATE_LIMIT, CHANNEL_API_TOKENS, apiBucket.available());
+    }
+
+    /**
+     * Registers a mower on the shared AWS connection, opening it if needed.
+     *
+     * @param listener will be notified of connection events
+     * @param endpoint the AWS MQTT endpoint of the account, unless overridden in the bridge configuration
+     * @param userId the user owning the mower
+     * @param topic the topic the mower publishes its status on
+     * @param handler consumer of the messages received on this topic
+     */
+    public synchronized void subscribe(AWSClientCallbackI listener, String endpoint, String userId, String topic,
+            Consumer<MqttMessage> handler) {
+        awsListeners.add(listener);
+        awsClient.subscribe(topic, handler);
+        String target = endpointOverride.isEmpty() ? endpoint : endpointOverride;
+        if (!awsClient.isActive() || !target.equals(awsEndpoint) || !userId.equals(awsUserId)) {
+            awsEndpoint = target;
+            awsUserId = userId;
+            connectAws();
+        } else if (awsClient.isConnected()) {
+            listener.onAWSConnectionSuccess();
+        }
+    }
+
+    public synchronized void unsubscribe(AWSClientCallbackI listener, String topic) {
+        awsListeners.remove(listener);
+        awsClient.unsubscribe(topic);
+        if (!awsClient.hasSubscriptions()) {
+            awsClient.disconnect();
+        }
+    }
+
+    /**
+     * Publishes a message if the rate limit allows it
+     *
+     * @param background true for messages not requested by the user (polling...), they can not use the reserve
+     *            kept for user commands
+     * @return false if the message was not sent
+     */
+    public boolean publish(String topic, String payload, boolean background) {
+        if (!mqttBucket.tryAcquire(background)) {
+            return false;
+        }
+        awsClient.publish(topic, payload);
+        return true;
     }
 
-    public boolean resetBladeTime(String serialNumber) {
-        return apiHandler.resetBladeTime(accessToken, serialNumber);
+    public boolean isAwsConnected() {
+        return awsClient.isConnected();
     }
 
-    public boolean resetBatteryCycles(String serialNumber) {
-        return apiHandler.resetBatteryCycles(accessToken, serialNumber);
+    private synchronized void connectAws() {
+        awsClient.disconnect();
+        if (awsEndpoint.isEmpty() || awsUserId.isEmpty() || accessToken.isEmpty()) {
+            logger.debug("Some data missing to initiate AWS connection");
+            return;
+        }
+        awsClient.connect(awsEndpoint, awsUserId, clientUuid, accessToken);
+    }
+
+    @Override
+    public void onAWSConnectionSuccess() {
+        logger.debug("AWS connection is available");
+        synchronized (this) {
+            reconnectAttempts = 0;
+        }
+        awsListeners.forEach(listener -> {
+            listener.onAWSConnectionSuccess();
+            listener.onAWSReconnectScheduled(0, null);
+        });
+    }
+
+    @Override
+    public void onAWSConnectionClosed() {
+        awsListeners.forEach(AWSClientCallbackI::onAWSConnectionClosed);
+        // Don't try to reconnect if the connection is closed by the thing being disabled, but keep trying while the
+        // bridge is offline
+        if (isInitialized() && awsClient.hasSubscriptions()) {
+            scheduleReconnect();
+        }
+    }
+
+    /**
+     * Plans a reconnection with a capped exponential backoff. The delay is randomized so that bridges don't retry in
+     * lockstep after a cloud outage. While the token can not be refreshed, the reconnection is postponed with the
+     * same backoff rather than attempted with a token the broker would refuse.
+     */
+    private synchronized void scheduleReconnect() {
+        if (disposed || reconnectJob.filter(job -> !job.isDone()).isPresent()) {
+            return;
+        }
+        int attempt = ++reconnectAttempts;
+        long backoff = Math.min(RECONNECT_MAX_DELAY_S, RECONNECT_BASE_DELAY_S << Math.min(attempt - 1, 20));
+        long delay = backoff / 2 + ThreadLocalRandom.current().nextLong(backoff / 2 + 1);
+        Instant nextRetry = Instant.now().plusSeconds(delay);
+        logger.debug("AWS reconnection attempt {} planned in {} seconds", attempt, delay);
+        awsListeners.forEach(listener -> listener.onAWSReconnectScheduled(attempt, nextRetry));
+
+        reconnectJob = Optional.of(scheduler.schedule(() -> {
+            synchronized (this) {
+                reconnectJob = Optional.empty();
+            }
+            if (isTokenExpiring()) {
+                requestTokenRefresh();
+            }
+            if (isTokenExpiring()) {
+                logger.debug("Token refresh pending or failed, AWS reconnection postponed");
+                scheduleReconnect();
+            } else {
+                connectAws();
+            }
+        }, delay, TimeUnit.SECONDS));
+    }
+
+    @Override
+    public void onAWSConnectionFailed(@Nullable String message) {
+        logger.warn("AWS connection failed: {}", message);
+        awsListeners.forEach(listener -> listener.onAWSConnectionFailed(message));
     }
 
     @Override
@@ -13,26 +13,35 @@
 package org.openhab.binding.worxlandroid.internal.handler;
 
 import static org.openhab.binding.worxlandroid.internal.WorxLandroidBindingConstants.*;
+import static org.openhab.binding.worxlandroid.internal.handler.MowerChannel.*;
 
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
 import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
 import java.time.temporal.ChronoUnit;
-import java.util.ArrayList;
-import java.util.Collections;
+import java.util.Collection;
 import java.util.EnumSet;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ThreadLocalRandom;
 import java.util.concurrent.TimeUnit;
-import java.util.stream.IntStream;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.UnaryOperator;
+import java.util.stream.Collectors;
 
 import javax.measure.Unit;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
-import org.openhab.binding.worxlandroid.internal.api.WebApiException;
+import org.openhab.binding.worxlandroid.internal.action.WorxLandroidActions;
 import org.openhab.binding.worxlandroid.internal.api.WorxApiDeserializer;
 import org.openhab.binding.worxlandroid.internal.api.dto.Commands.MowerCommand;
 import org.openhab.binding.worxlandroid.internal.api.dto.Commands.OneTimeCommand;
@@ -46,26 +55,36 @@ import org.openhab.binding.worxlandroid.internal.api.dto.Payload.Dat.Axis;
 import org.openhab.binding.worxlandroid.internal.api.dto.ProductItemStatus;
 import org.openhab.binding.worxlandroid.internal.codes.WorxLandroidActionCodes;
 import org.openhab.binding.worxlandroid.internal.codes.WorxLandroidDayCodes;
+import org.openhab.binding.worxlandroid.internal.codes.WorxLandroidErrorCodes;
 import org.openhab.binding.worxlandroid.internal.codes.WorxLandroidStatusCodes;
 import org.openhab.binding.worxlandroid.internal.config.MowerConfiguration;
+import org.openhab.binding.worxlandroid.internal.handler.ChannelTable.DayChannel;
+import org.openhab.binding.worxlandroid.internal.telemetry.TelemetryBuffer;
 import org.openhab.binding.worxlandroid.internal.vo.Mower;
+import org.openhab.binding.worxlandroid.internal.vo.ScheduleTimeline;
+import org.openhab.binding.worxlandroid.internal.vo.ScheduleTimeline.Window;
 import org.openhab.binding.worxlandroid.internal.vo.ScheduledDay;
+import org.openhab.core.OpenHAB;
 import org.openhab.core.library.types.DateTimeType;
 import org.openhab.core.library.types.OnOffType;
 import org.openhab.core.library.types.QuantityType;
 import org.openhab.core.library.types.StringType;
 import org.openhab.core.library.unit.SIUnits;
 import org.openhab.core.library.unit.Units;
+import org.openhab.core.thing.Bridge;
 import org.openhab.core.thing.ChannelUID;
 import org.openhab.core.thing.Thing;
 import org.openhab.core.thing.ThingStatus;
 import org.openhab.core.thing.ThingStatusDetail;
 import org.openhab.core.thing.ThingStatusInfo;
+import org.openhab.core.thing.binding.ThingHandlerService;
 import org.openhab.core.thing.binding.builder.ThingBuilder;
 import org.openhab.core.types.Command;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import com.google.gson.JsonObject;
+
 /**
  * The{@link WorxLandroidMowerHandler} is responsible for handling commands, which are
  * sent to one of the channels.
@@ -75,13 +94,44 @@ import org.slf4j.LoggerFactory;
  */
 @NonNullByDefault
 public class WorxLandroidMowerHandler extends AWSClientThingHandler {
-    private static final String EMPTY_PAYLOAD = "{}";
+
+    private static final int TIMELINE_WINDOWS = 7;
+    private static final long MIN_POLL_DELAY_S = 5;
+    private static final long SCHEDULE_GRACE_S = 120;
+    private static final long INIT_RETRY_BASE_DELAY_S = 30;
+    private static final long INIT_RETRY_MAX_DELAY_S = 1800;
+    private static final Set<WorxLandroidStatusCodes> ALERT_STATUSES = EnumSet.of(WorxLandroidStatusCodes.LIFTED,
+            WorxLandroidStatusCodes.TRAPPED, WorxLandroidStatusCodes.BLADE_BLOCKED,
+            WorxLandroidStatusCodes.ESCAPE_FROM_OLM);
+    private static final Set<WorxLandroidErrorCodes> ALERT_ERRORS = EnumSet.of(WorxLandroidErrorCodes.TRAPPED,
+            WorxLandroidErrorCodes.LIFTED, WorxLandroidErrorCodes.WIRE_MISSING, WorxLandroidErrorCodes.OUTSIDE_WIRE,
+            WorxLandroidErrorCodes.BLADE_MOTOR_BLOCKED, WorxLandroidErrorCodes.WHEEL_MOTOR_BLOKED,
+            WorxLandroidErrorCodes.TRAPPED_TIMEOUT, WorxLandroidErrorCodes.UPSIDE_DOWN,
+            WorxLandroidErrorCodes.REVERSE_WIRE, WorxLandroidErrorCodes.CHARGE_ERROR,
+            WorxLandroidErrorCodes.TIMEOUT_FINDING_HOME, WorxLandroidErrorCodes.BATTERY_OVER_TEMPERATURE,
+            WorxLandroidErrorCodes.MOWER_OUTSIDE_WIRE);
+    private static final Set<WorxLandroidStatusCodes> ACTIVE_STATUSES = EnumSet.of(
+            WorxLandroidStatusCodes.START_SEQUENCE, WorxLandroidStatusCodes.LEAVING_HOME,
+            WorxLandroidStatusCodes.FOLLOW_WIRE, WorxLandroidStatusCodes.SEARCHING_HOME,
+            WorxLandroidStatusCodes.SEARCHING_WIRE, WorxLandroidStatusCodes.MOWING,
+            WorxLandroidStatusCodes.REMOTE_CONTROL, WorxLandroidStatusCodes.GOING_HOME,
+            WorxLandroidStatusCodes.ZONE_TRAINING, WorxLandroidStatusCodes.BORDER_CUT,
+            WorxLandroidStatusCodes.SEARCHING_ZONE, WorxLandroidStatusCodes.PAUSE);
+    private static final DateTimeFormatter TIMELINE_START = DateTimeFormatter.ofPattern("EEE HH:mm", Locale.ENGLISH);
+    private static final DateTimeFormatter TIMELINE_END = DateTimeFormatter.ofPattern("HH:mm");
 
     private final Logger logger = LoggerFactory.getLogger(WorxLandroidMowerHandler.class);
-    private Optional<ScheduledFuture<?>> refreshJob = Optional.empty();
     private Optional<ScheduledFuture<?>> pollingJob = Optional.empty();
+    private Optional<ScheduledFuture<?>> initJob = Optional.empty();
+    private int initAttempts = 0;
+    private volatile MowerConfiguration mowerConfig = new MowerConfiguration();
+    private volatile Instant lastMessage = Instant.EPOCH;
+    private volatile Instant lastPoll = Instant.EPOCH;
 
-    private Optional<Mower> mower = Optional.empty();
+    private final AtomicReference<Optional<Mower>> mower = new AtomicReference<>(Optional.empty());
+    private Optional<CommandQueue> commandQueue = Optional.empty();
+    private volatile Optional<TelemetryBuffer> telemetry = Optional.empty();
+    private final SessionTracker sessionTracker = new SessionTracker();
 
     public WorxLandroidMowerHandler(Thing thing, WorxApiDeserializer deserializer) {
         super(thing, deserializer);
@@ -105,35 +155,114 @@ public class WorxLandroidMowerHandler extends AWSClientThingHandler {
 
     @Override
     public void dispose() {
-        refreshJob.ifPresent(job -> job.cancel(true));
-        refreshJob = Optional.empty();
+        Bridge bridge = getBridge();
+        if (bridge != null && bridge.getHandler() instanceof WorxLandroidBridgeHandler handler) {
+            handler.unregisterStatusListener(getConfigAs(MowerConfiguration.class).serialNumber);
+        }
 
-        pollingJob.ifPresent(job -> job.cancel(true));
-        pollingJob = Optional.empty();
+        mower.set(Optional.empty());
+        synchronized (this) {
+            pollingJob.ifPresent(job -> job.cancel(true));
+            pollingJob = Optional.empty();
+            initJob.ifPresent(job -> job.cancel(true));
+            initJob = Optional.empty();
+        }
+
+        commandQueue.ifPresent(CommandQueue::dispose);
+        commandQueue = Optional.empty();
+
+        closeTelemetry();
 
         super.dispose();
     }
 
+    @Override
+    public Collection<Class<? extends ThingHandlerService>> getServices() {
+        return List.of(WorxLandroidActions.class);
+    }
+
+    public Optional<TelemetryBuffer> getTelemetry() {
+        return telemetry;
+    }
+
+    private void openTelemetry(MowerConfiguration config) {
+        closeTelemetry();
+        if (config.telemetrySize > 0) {
+            Path file = Path.of(OpenHAB.getUserDataFolder(), BINDING_ID,
+                    "telemetry-%s.bin".formatted(config.serialNumber));
+            try {
+                telemetry = Optional.of(new TelemetryBuffer(file, config.telemetrySize));
+            } catch (IOException e) {
+                logger.warn("Unable to open telemetry file {}: {}", file, e.getMessage());
+            }
+        }
+    }
+
+    private void closeTelemetry() {
+        telemetry.ifPresent(buffer -> {
+            try {
+                buffer.close();
+            } catch (IOException e) {
+                logger.debug("Error closing telemetry file: {}", e.getMessage());
+            }
+        });
+        telemetry = Optional.empty();
+    }
+
     private void initializeData(WorxLandroidBridgeHandler bridgeHandler) {
         MowerConfiguration config = getConfigAs(MowerConfiguration.class);
         logger.debug("Initializing WorxLandroidMowerHandler for serial number '{}'", config.serialNumber);
-        try {
-            ProductItemStatus product = bridgeHandler.retrieveDeviceStatus(config.serialNumber);
-            if (product != null) {
-                connectAws(product.mqttEndpoint, product.uuid, product.userId, product.mqttTopics.commandOut);
-                mower = Optional.of(new Mower(this, product));
-                if (firstLaunch()) {
-                    setChannelsAndProperties(mower.get());
+        synchronized (this) {
+            initJob.ifPresent(job -> job.cancel(false));
+            initJob = Optional.empty();
+        }
+        bridgeHandler.retrieveDeviceStatus(config.serialNumber).whenCompleteAsync((product, e) -> {
+            if (e != null) {
+                logger.warn("initialize mower: id {} - {}::{} - {}", config.serialNumber, getThing().getLabel(),
+                        getThing().getUID(), e.getMessage());
+                updateStatus(ThingStatus.OFFLINE, ThingStatusDetail.COMMUNICATION_ERROR, e.getMessage());
+                scheduleInitRetry();
+            } else if (product != null) {
+                synchronized (this) {
+                    initAttempts = 0;
                 }
-                processStatusMessage(mower.get());
+                initializeMower(bridgeHandler, product, config);
+            }
+        }, scheduler);
+    }
 
-                updateStatus(product.online ? ThingStatus.ONLINE : ThingStatus.OFFLINE);
-                startScheduledJobs(bridgeHandler, mower.get(), config);
+    /**
+     * Plans a new initialization with a capped exponential backoff, randomized so that the mowers of a bridge don't
+     * retry together.
+     */
+    private synchronized void scheduleInitRetry() {
+        long backoff = Math.min(INIT_RETRY_MAX_DELAY_S, INIT_RETRY_BASE_DELAY_S << Math.min(initAttempts++, 20));
+        long delay = backoff / 2 + ThreadLocalRandom.current().nextLong(backoff / 2 + 1);
+        logger.debug("Mower initialization retried in {} seconds", delay);
+        initJob = Optional.of(scheduler.schedule(() -> {
+            WorxLandroidBridgeHandler bridgeHandler = getBridgeHandler(getBridge(), WorxLandroidBridgeHandler.class);
+            if (bridgeHandler != null && isInitialized()) {
+                initializeData(bridgeHandler);
             }
-        } catch (WebApiException e) {
-            logger.error("initialize mower: id {} - {}::{}", config.serialNumber, getThing().getLabel(),
-                    getThing().getUID());
+        }, delay, TimeUnit.SECONDS));
+    }
+
+    private void initializeMower(WorxLandroidBridgeHandler bridgeHandler, ProductItemStatus product,
+            MowerConfiguration config) {
+        connectAws(bridgeHandler, product.mqttEndpoint, product.userId, product.mqttTopics.commandOut);
+        Mower theMower = new Mower(product);
+        mower.set(Optional.of(theMower));
+        commandQueue.ifPresent(CommandQueue::dispose);
+        commandQueue = Optional.of(new CommandQueue(scheduler, config.commandWindow,
+                (json, background) -> publishMessage(theMower.getMqttCommandIn(), json, background)));
+        if (firstLaunch()) {
+            setChannelsAndProperties(theMower);
         }
+        openTelemetry(config);
+        processStatusMessage(theMower);
+
+        updateStatus(product.online ? ThingStatus.ONLINE : ThingStatus.OFFLINE);
+        startScheduledJobs(bridgeHandler, config);
     }
 
     private void setChannelsAndProperties(Mower mower) {
@@ -155,12 +284,9 @@ public class WorxLandroidMowerHandler extends AWSClientThingHandler {
         if (!mower.multiZoneSupported()) { // multizone channels only when supported
             toRemove.add(getChannelUID(GROUP_MULTI_ZONES, CHANNEL_LAST_ZONE));
 
-            // remove zone meter channels
-            IntStream.range(0, mower.getMultiZoneCount())
-                    .forEach(index -> toRemove.add(getChannelUID(GROUP_MULTI_ZONES, "zone-%d".formatted(index + 1))));
-            // remove allocation channels
-            IntStream.range(0, 10).forEach(index -> toRemove
-                    .add(getChannelUID(GROUP_MULTI_ZONES, "%s-%d".formatted(CHANNEL_PREFIX_ALLOCATION, index))));
+            // remove zone meter and allocation channels
+            toRemove.addAll(getChannelUIDs(GROUP_MULTI_ZONES, Set.copyOf(CHANNEL_ZONES)));
+            toRemove.addAll(getChannelUIDs(GROUP_MULTI_ZONES, Set.copyOf(CHANNEL_ALLOCATIONS)));
         }
 
         if (!mower.oneTimeSchedulerSupported()) { // oneTimeScheduler channel only when supported
@@ -168,14 +294,14 @@ public class WorxLandroidMowerHandler extends AWSClientThingHandler {
         }
 
         if (!mower.scheduler2Supported()) { // Scheduler 2 channels only when supported version
-            EnumSet.allOf(WorxLandroidDayCodes.class).stream()
-                    .map(dayCode -> "%s2".formatted(dayCode.getDescription().toLowerCase()))
+            EnumSet.allOf(WorxLandroidDayCodes.class).stream().map(dayCode -> dayCode.getGroupName(2))
                     .forEach(groupName -> toRemove.addAll(getChannelUIDs(groupName,
                             Set.of(CHANNEL_ENABLE, CHANNEL_DURATION, CHANNEL_EDGECUT, CHANNEL_TIME))));
         }
 
         toRemove.stream().forEach(thingBuilder::withoutChannel);
         updateThing(thingBuilder.build());
+        indexChannels();
 
         updateProperties(Map.of(Thing.PROPERTY_MAC_ADDRESS, mower.getMacAddress(), Thing.PROPERTY_VENDOR, "Worx",
                 "productId", mower.getId(), "language", mower.getLanguage(), "mqtt_endpoint", endpoint));
@@ -184,6 +310,7 @@ public class WorxLandroidMowerHandler extends AWSClientThingHandler {
     private void processStatusMessage(Mower mower) {
         updateStateCfg(mower);
         updateStateDat(mower);
+        sessionTracker.update(mower, ZonedDateTime.now()).ifPresent(this::updateStateSession);
         thing.setProperty(Thing.PROPERTY_FIRMWARE_VERSION, mower.getFirmwareVersion());
     }
 
@@ -191,25 +318,75 @@ public class WorxLandroidMowerHandler extends AWSClientThingHandler {
      * Start scheduled jobs.
      * Jobs are only started if interval > 0
      */
-    private void startScheduledJobs(WorxLandroidBridgeHandler bridgeHandler, Mower theMower,
-            MowerConfiguration config) {
+    private void startScheduledJobs(WorxLandroidBridgeHandler bridgeHandler, MowerConfiguration config) {
         if (config.refreshStatusInterval > 0) {
-            refreshJob = Optional.of(scheduler.scheduleWithFixedDelay(() -> {
-                try {
-                    ProductItemStatus product = bridgeHandler.retrieveDeviceStatus(config.serialNumber);
-                    updateChannelDateTime(GROUP_COMMON, CHANNEL_ONLINE_TIMESTAMP, ZonedDateTime.now());
-                    updateChannelOnOff(GROUP_COMMON, CHANNEL_ONLINE, product != null && product.online);
-                    updateStatus(product != null ? ThingStatus.ONLINE : ThingStatus.OFFLINE);
-                } catch (WebApiException e) {
-                    logger.debug("Refreshing Thing {} failed, handler might be OFFLINE", config.serialNumber);
-                }
-            }, 3, config.refreshStatusInterval, TimeUnit.SECONDS));
+            bridgeHandler.registerStatusListener(config.serialNumber, config.refreshStatusInterval, product -> {
+                updateChannelDateTime(channels.get(ONLINE_TIMESTAMP), ZonedDateTime.now());
+                updateChannelOnOff(channels.get(ONLINE), product != null && product.online);
+                updateStatus(product != null ? ThingStatus.ONLINE : ThingStatus.OFFLINE);
+            });
         }
 
-        if (config.pollingInterval > 0) {
-            pollingJob = Optional.of(scheduler.scheduleWithFixedDelay(() -> sendCommand(theMower, EMPTY_PAYLOAD), 5,
-                    config.pollingInterval, TimeUnit.SECONDS));
+        mowerConfig = config;
+        schedulePoll();
+    }
+
+    /**
+     * Plans the next poll of the mower. Each received message postpones it, so that polls are only sent when the
+     * state was not pushed by the mower for a whole interval.
+     */
+    private synchronized void schedulePoll() {
+        pollingJob.ifPresent(job -> job.cancel(false));
+        pollingJob = Optional.empty();
+        mower.get().ifPresent(theMower -> {
+            long delay = pollDelay(theMower, ZonedDateTime.now());
+            if (delay > 0) {
+                pollingJob = Optional.of(scheduler.schedule(this::poll, delay, TimeUnit.SECONDS));
+            }
+        });
+    }
+
+    private void poll() {
+        mower.get().ifPresent(theMower -> {
+            // A poll refused by the rate limit did not refresh the state, the next one is planned from the last one
+            if (sendCommand(theMower, new JsonObject(), true)) {
+                lastPoll = Instant.now();
+            }
+        });
+        schedulePoll();
+    }
+
+    /**
+     * @return the delay in seconds before the next poll matching the current state of the mower, 0 if polling is
+     *         disabled
+     */
+    private long pollDelay(Mower theMower, ZonedDateTime now) {
+        MowerConfiguration config = mowerConfig;
+        if (config.pollingInterval <= 0) {
+            return 0;
+        }
+        long interval = config.pollingInterval;
+        boolean docked = false;
+        ScheduleTimeline timeline = theMower.getTimeline();
+        if (ALERT_STATUSES.contains(theMower.getStatusCode())
+                || ALERT_ERRORS.contains(theMower.getPayloadDat().errorCode)) {
+            interval = config.alertPollingInterval > 0 ? config.alertPollingInterval : interval;
+        } else if (ACTIVE_STATUSES.contains(theMower.getStatusCode()) || timeline.current(now).isPresent()) {
+            interval = config.activePollingInterval > 0 ? config.activePollingInterval : interval;
+        } else {
+            docked = true;
         }
+        // Intervals run from the last message or poll, both refreshed the state
+        Instant last = lastMessage.isAfter(lastPoll) ? lastMessage : lastPoll;
+        long delay = Math.max(MIN_POLL_DELAY_S, interval - Duration.between(last, now.toInstant()).toSeconds());
+        if (docked) {
+            // Check shortly after the next scheduled start that the mower actually left, counted from now
+            long untilStart = timeline.next(now)
+                    .map(window -> Duration.between(now, window.start()).toSeconds() + SCHEDULE_GRACE_S)
+                    .orElse(Long.MAX_VALUE);
+            delay = Math.min(delay, untilStart);
+        }
+        return delay;
     }
 
     @Override
@@ -223,7 +400,7 @@ public class WorxLandroidMowerHandler extends AWSClientThingHandler {
 
     @Override
     protected void internalHandleCommand(@Nullable String groupId, String channelId, Command command) {
-        mower.ifPresent(theMower -> {
+        mower.get().ifPresent(theMower -> {
             if (GROUP_MULTI_ZONES.equals(groupId)) {
                 handleMultiZonesCommand(theMower, channelId, command);
             } else if (GROUP_AWS.equals(groupId)) {
@@ -235,12 +412,7 @@ public class WorxLandroidMowerHandler extends AWSClientThingHandler {
             } else if (GROUP_COMMON.equals(groupId)) {
                 handleCommonGroup(theMower, channelId, command);
             } else if (groupId != null && groupId.contains("day")) {
-                setScheduledDays(theMower, groupId, channelId, command);
-                sendCommand(theMower,
-                        theMower.scheduler2Supported()
-                                ? new ScheduleDaysCommand(theMower.getTimeExtension(), theMower.getSheduleArray1(),
-                                        theMower.getSheduleArray2())
-                                : new ScheduleDaysCommand(theMower.getTimeExtension(), theMower.getSheduleArray1()));
+                setScheduledDays(groupId, channelId, command);
             } else if (CHANNEL_DELAY.equals(channelId)) {
                 int delaySec = commandToInt(command, Units.SECOND);
                 sendCommand(theMower, new SetRainDelay(delaySec));
@@ -254,8 +426,8 @@ public class WorxLandroidMowerHandler extends AWSClientThingHandler {
 
     private void handleAWSCommand(Mower theMower, String channel) {
         if (CHANNEL_POLL.equals(channel)) {
-            sendCommand(theMower, EMPTY_PAYLOAD);
-            updateState(CHANNEL_POLL, OnOffType.OFF);
+            sendCommand(theMower, new JsonObject());
+            updateChannelOnOff(channels.get(AWS_POLL), false);
         } else {
             logger.warn("No action identified on channel {}", channel);
         }
@@ -270,12 +442,7 @@ public class WorxLandroidMowerHandler extends AWSClientThingHandler {
                     : WorxLandroidActionCodes.UNLOCK;
             sendCommand(theMower, new MowerCommand(lockCode));
         } else if (CHANNEL_ENABLE.equals(channel)) {
-            theMower.setEnable(OnOffType.ON.equals(command));
-            sendCommand(theMower,
-                    theMower.scheduler2Supported()
-                            ? new ScheduleDaysCommand(theMower.getTimeExtension(), theMower.getSheduleArray1(),
-                                    theMower.getSheduleArray2())
-                            : new ScheduleDaysCommand(theMower.getTimeExtension(), theMower.getSheduleArray1()));
+            sendScheduleDays(updateMower(current -> current.withEnable(OnOffType.ON.equals(command))));
         } else {
             logger.warn("No action identified for command {} on channel {}", command, channel);
         }
@@ -295,12 +462,7 @@ public class WorxLandroidMowerHandler extends AWSClientThingHandler {
         if (CHANNEL_MODE.equals(channel)) {
             sendCommand(theMower, new ScheduleCommand(command));
         } else if (CHANNEL_TIME_EXTENSION.equals(channel)) {
-            theMower.setTimeExtension(command);
-            sendCommand(theMower,
-                    theMower.scheduler2Supported()
-                            ? new ScheduleDaysCommand(theMower.getTimeExtension(), theMower.getSheduleArray1(),
-                                    theMower.getSheduleArray2())
-                            : new ScheduleDaysCommand(theMower.getTimeExtension(), theMower.getSheduleArray1()));
+            sendScheduleDays(updateMower(current -> current.withTimeExtension(command)));
         } else {
             logger.warn("No action identified for command {} on channel {}", command, channel);
         }
@@ -308,16 +470,17 @@ public class WorxLandroidMowerHandler extends AWSClientThingHandler {
 
     private void handleMultiZonesCommand(Mower theMower, String channel, Command command) {
         if (CHANNEL_ENABLE.equals(channel)) {
-            theMower.setMultiZoneEnable(OnOffType.ON.equals(command));
-            sendCommand(theMower, new ZoneMeterCommand(theMower.getZoneMeters()));
+            Mower updated = updateMower(current -> current.withMultiZoneEnable(OnOffType.ON.equals(command)));
+            sendCommand(updated, new ZoneMeterCommand(updated.getZoneMeters()));
         } else if (CHANNEL_LAST_ZONE.equals(channel)) {
             if (!WorxLandroidStatusCodes.HOME.equals(theMower.getStatusCode())) {
                 logger.warn("Cannot start zone because mower must be at HOME!");
                 return;
             }
 
-            theMower.setZoneTo(Integer.parseInt(command.toString()));
-            sendCommand(theMower, new ZoneMeterCommand(theMower.getZoneMeters()));
+            int zoneIndex = Integer.parseInt(command.toString());
+            Mower updated = updateMower(current -> current.withZoneTo(zoneIndex));
+            sendCommand(updated, new ZoneMeterCommand(updated.getZoneMeters()));
             scheduler.schedule(() -> sendCommand(theMower, new MowerCommand(WorxLandroidActionCodes.START)), 2000,
                     TimeUnit.MILLISECONDS);
         } else {
@@ -326,11 +489,12 @@ public class WorxLandroidMowerHandler extends AWSClientThingHandler {
 
             if (CHANNEL_PREFIX_ZONE.startsWith(names[0])) {
                 int meterValue = commandToInt(command, SIUnits.METRE);
-                theMower.setZoneMeter(index - 1, meterValue);
-                sendCommand(theMower, new ZoneMeterCommand(theMower.getZoneMeters()));
+                Mower updated = updateMower(current -> current.withZoneMeter(index - 1, meterValue));
+                sendCommand(updated, new ZoneMeterCommand(updated.getZoneMeters()));
             } else if (CHANNEL_PREFIX_ALLOCATION.startsWith(names[0])) {
-                theMower.setAllocation(index, Integer.parseInt(command.toString()));
-                sendCommand(theMower, new ZoneMeterAlloc(theMower.getAllocations()));
+                int zoneIndex = Integer.parseInt(command.toString());
+                Mower updated = updateMower(current -> current.withAllocation(index, zoneIndex));
+                sendCommand(updated, new ZoneMeterAlloc(updated.getAllocations()));
             } else {
                 logger.warn("No action identified for command {} on channel {}", command, channel);
             }
@@ -350,42 +514,74 @@ public class WorxLandroidMowerHandler extends AWSClientThingHandler {
     /**
      * Set scheduled days
      *
-     * @param theMower
-     *
      * @param scDaysIndex 1 or 2
      * @param channelUID
      * @param command
      */
-    private void setScheduledDays(Mower theMower, String groupId, String channelId, Command command) {
+    private void setScheduledDays(String groupId, String channelId, Command command) {
         int scDaysSlot = groupId.endsWith("2") ? 2 : 1;
         WorxLandroidDayCodes dayCodeUpdated = WorxLandroidDayCodes.valueOf(groupId.replace("2", "").toUpperCase());
 
-        ScheduledDay scheduledDayUpdated = theMower.getScheduledDay(scDaysSlot, dayCodeUpdated);
-        if (scheduledDayUpdated == null) {
-            return;
-        }
-
+        UnaryOperator<ScheduledDay> change;
         if (CHANNEL_ENABLE.equals(channelId)) {
-            scheduledDayUpdated.setEnable(OnOffType.ON.equals(command));
+            change = day -> day.withEnable(OnOffType.ON.equals(command));
         } else if (CHANNEL_TIME.equals(channelId)) {
             if (command instanceof DateTimeType dateTime) {
                 ZonedDateTime zdt = dateTime.getZonedDateTime();
-                scheduledDayUpdated.setStartTime(zdt);
+                change = day -> day.withStartTime(zdt);
             } else if (command instanceof StringType stringType) {
-                scheduledDayUpdated.setStartTime(stringType.toString());
+                change = day -> day.withStartTime(stringType.toString());
             } else {
                 logger.warn("Incorrect command {} on channel {}:{} ", command, groupId, channelId);
+                return;
             }
         } else if (CHANNEL_DURATION.equals(channelId)) {
-            scheduledDayUpdated.setDuration(Integer.parseInt(command.toString()));
+            int duration = Integer.parseInt(command.toString());
+            change = day -> day.withDuration(duration);
         } else if (CHANNEL_EDGECUT.equals(channelId)) {
-            scheduledDayUpdated.setEdgecut(OnOffType.ON.equals(command));
+            change = day -> day.withEdgecut(OnOffType.ON.equals(command));
+        } else {
+            return;
         }
+
+        Mower updated = updateMower(current -> {
+            ScheduledDay scheduledDay = current.getScheduledDay(scDaysSlot, dayCodeUpdated);
+            return scheduledDay == null ? current
+                    : current.withScheduledDay(scDaysSlot, dayCodeUpdated, change.apply(scheduledDay));
+        });
+        sendScheduleDays(updated);
+    }
+
+    /**
+     * Atomically replaces the current mower snapshot. The change function may be called more than once and must
+     * not have side effects.
+     *
+     * @return the new snapshot
+     */
+    private Mower updateMower(UnaryOperator<Mower> change) {
+        return mower.updateAndGet(current -> current.map(change)).orElseThrow();
+    }
+
+    private void sendScheduleDays(Mower theMower) {
+        sendCommand(theMower,
+                theMower.scheduler2Supported()
+                        ? new ScheduleDaysCommand(theMower.getTimeExtension(), theMower.getScheduleJson1(),
+                                theMower.getScheduleJson2())
+                        : new ScheduleDaysCommand(theMower.getTimeExtension(), theMower.getScheduleJson1()));
     }
 
     private void sendCommand(Mower theMower, Object command) {
+        sendCommand(theMower, command, false);
+    }
+
+    /**
+     * @return false if the command was refused, e.g. by the rate limit
+     */
+    private boolean sendCommand(Mower theMower, Object command, boolean background) {
         logger.debug("send command: {}", command);
-        publishMessage(theMower.getMqttCommandIn(), command);
+        JsonObject json = command instanceof JsonObject jsonObject ? jsonObject : deserializer.toJsonObject(command);
+        return commandQueue.map(queue -> queue.submit(json, background))
+                .orElseGet(() -> publishMessage(theMower.getMqttCommandIn(), json.toString(), background));
     }
 
     /**
@@ -395,48 +591,47 @@ public class WorxLandroidMowerHandler extends AWSClientThingHandler {
      *
      * @param dat
      */
-    private void updateStateDat(Mower theMower) {
-        updateChannelQuantity(GROUP_ORIENTATION, CHANNEL_PITCH, theMower.getAngle(Axis.PITCH), Units.DEGREE_ANGLE);
-        updateChannelQuantity(GROUP_ORIENTATION, CHANNEL_ROLL, theMower.getAngle(Axis.ROLL), Units.DEGREE_ANGLE);
-        updateChannelQuantity(GROUP_ORIENTATION, CHANNEL_YAW, theMower.getAngle(Axis.YAW), Units.DEGREE_ANGLE);
-        updateChannelEnum(GROUP_COMMON, CHANNEL_STATUS_CODE, theMower.getPayloadDat().statusCode);
-        updateChannelEnum(GROUP_COMMON, CHANNEL_ERROR_CODE, theMower.getPayloadDat().errorCode);
-        updateChannelDecimal(GROUP_MULTI_ZONES, CHANNEL_LAST_ZONE, theMower.getLastZone());
-
-        updateChannelDecimal(GROUP_BATTERY, CHANNEL_CHARGE_CYCLES, theMower.getCurrentChargeCycles());
-        updateChannelDecimal(GROUP_BATTERY, CHANNEL_CHARGE_CYCLES_TOTAL, theMower.getTotalChargeCycles());
-        updateChannelQuantity(GROUP_METRICS, CHANNEL_BLADE_TIME, theMower.getCurrentBladeTime(), Units.MINUTE);
-        updateChannelQuantity(GROUP_METRICS, CHANNEL_BLADE_TIME_TOTAL, theMower.getTotalBladeTime(), Units.MINUTE);
+    void updateStateDat(Mower theMower) {
+        updateChannelQuantity(channels.get(PITCH), theMower.getAngle(Axis.PITCH), Units.DEGREE_ANGLE);
+        updateChannelQuantity(channels.get(ROLL), theMower.getAngle(Axis.ROLL), Units.DEGREE_ANGLE);
+        updateChannelQuantity(channels.get(YAW), theMower.getAngle(Axis.YAW), Units.DEGREE_ANGLE);
+        updateChannelEnum(channels.get(STATUS), theMower.getPayloadDat().statusCode);
+        updateChannelEnum(channels.get(ERROR), theMower.getPayloadDat().errorCode);
+        updateChannelDecimal(channels.get(LAST_ZONE), theMower.getLastZone());
+
+        updateChannelDecimal(channels.get(CHARGE_CYCLES), theMower.getCurrentChargeCycles());
+        updateChannelDecimal(channels.get(CHARGE_CYCLES_TOTAL), theMower.getTotalChargeCycles());
+        updateChannelQuantity(channels.get(BLADE_TIME), theMower.getCurrentBladeTime(), Units.MINUTE);
+        updateChannelQuantity(channels.get(BLADE_TIME_TOTAL), theMower.getTotalBladeTime(), Units.MINUTE);
 
         theMower.getBattery().ifPresent(battery -> {
-            updateChannelQuantity(GROUP_BATTERY, CHANNEL_TEMPERATURE, battery.temp != -1 ? battery.temp : null,
+            updateChannelQuantity(channels.get(BATTERY_TEMPERATURE), battery.temp != -1 ? battery.temp : null,
                     SIUnits.CELSIUS);
-            updateChannelQuantity(GROUP_BATTERY, CHANNEL_VOLTAGE, battery.voltage != -1 ? battery.voltage : null,
+            updateChannelQuantity(channels.get(BATTERY_VOLTAGE), battery.voltage != -1 ? battery.voltage : null,
                     Units.VOLT);
-            updateChannelDecimal(GROUP_BATTERY, CHANNEL_LEVEL, battery.level);
-            updateChannelOnOff(GROUP_BATTERY, CHANNEL_CHARGING, battery.charging);
+            updateChannelDecimal(channels.get(BATTERY_LEVEL), battery.level);
+            updateChannelOnOff(channels.get(BATTERY_CHARGING), battery.charging);
         });
 
         theMower.getStats().ifPresent(stats -> {
-            updateChannelQuantity(GROUP_METRICS, CHANNEL_DISTANCE,
+            updateChannelQuantity(channels.get(DISTANCE),
                     stats.distanceCovered != -1 ? stats.distanceCovered : null, SIUnits.METRE);
-            updateChannelQuantity(GROUP_METRICS, CHANNEL_TOTAL_TIME,
+            updateChannelQuantity(channels.get(TOTAL_TIME),
                     stats.mowerWorkTime != -1 ? stats.mowerWorkTime : null, Units.MINUTE);
         });
 
         int rssi = theMower.getPayloadDat().wifiQuality;
-        updateChannelDecimal(GROUP_WIFI, CHANNEL_WIFI_QUALITY, rssi <= 0 ? toQoS(rssi) : null);
-        updateChannelQuantity(GROUP_WIFI, CHANNEL_RSSI,
-                rssi <= 0 ? new QuantityType<>(rssi, Units.DECIBEL_MILLIWATTS) : null);
+        updateChannelDecimal(channels.get(WIFI_QUALITY), rssi <= 0 ? toQoS(rssi) : null);
+        updateChannelQuantity(channels.get(RSSI), rssi <= 0 ? rssi : null, Units.DECIBEL_MILLIWATTS);
 
         if (theMower.lockSupported()) {
-            updateChannelOnOff(GROUP_COMMON, CHANNEL_LOCK, theMower.getPayloadDat().isLocked());
+            updateChannelOnOff(channels.get(LOCK), theMower.getPayloadDat().isLocked());
         }
 
         theMower.getRain().ifPresent(rain -> {
             if (theMower.rainDelayStartSupported()) {
-                updateChannelOnOff(GROUP_RAIN, CHANNEL_RAIN_STATE, rain.raining);
-                updateChannelQuantity(GROUP_RAIN, CHANNEL_RAIN_COUNTER, rain.counter, Units.MINUTE);
+                updateChannelOnOff(channels.get(RAIN_STATE), rain.raining);
+                updateChannelQuantity(channels.get(RAIN_COUNTER), rain.counter, Units.MINUTE);
             }
         });
     }
@@ -449,99 +644,99 @@ public class WorxLandroidMowerHandler extends AWSClientThingHandler {
      * @param cfg
      * @param zoneId
      */
-    private void updateStateCfg(Mower theMower) {
-        updateChannelDateTime(GROUP_CONFIG, CHANNEL_TIMESTAMP, theMower.getLastUpdate());
+    void updateStateCfg(Mower theMower) {
+        updateChannelDateTime(channels.get(CONFIG_TIMESTAMP), theMower.getLastUpdate());
 
         theMower.getOneTimeSchedule().ifPresent(ots -> {
-            updateChannelOnOff(GROUP_ONE_TIME, CHANNEL_EDGECUT, ots.getEdgeCut());
-            updateChannelQuantity(GROUP_ONE_TIME, CHANNEL_DURATION, ots.duration != -1 ? ots.duration : null,
+            updateChannelOnOff(channels.get(ONE_TIME_EDGECUT), ots.getEdgeCut());
+            updateChannelQuantity(channels.get(ONE_TIME_DURATION), ots.duration != -1 ? ots.duration : null,
                     Units.MINUTE);
         });
 
         theMower.getSchedule().ifPresent(schedule -> {
             if (theMower.oneTimeSchedulerSupported()) {
-                updateChannelEnum(GROUP_SCHEDULE, CHANNEL_MODE, schedule.scheduleMode);
+                updateChannelEnum(channels.get(SCHEDULE_MODE), schedule.scheduleMode);
             }
 
             if (schedule.timeExtension != -1) {
-                updateChannelQuantity(GROUP_SCHEDULE, CHANNEL_TIME_EXTENSION, schedule.timeExtension, Units.PERCENT);
-                updateChannelOnOff(GROUP_COMMON, CHANNEL_ENABLE, theMower.isEnable());
+                updateChannelQuantity(channels.get(TIME_EXTENSION), schedule.timeExtension, Units.PERCENT);
+                updateChannelOnOff(channels.get(ENABLE), theMower.isEnable());
             }
 
             if (schedule.d != null) {
-                updateStateCfgScDays(theMower, 1, schedule.d);
+                ZonedDateTime now = ZonedDateTime.now();
+                updateStateCfgScDays(theMower, 1, now);
                 if (schedule.dd != null) {
-                    updateStateCfgScDays(theMower, 2, schedule.dd);
+                    updateStateCfgScDays(theMower, 2, now);
                 }
+                updateStateTimeline(theMower.getTimeline(), now);
             }
         });
 
         // What is this ???
         int command = theMower.getPayloadCfg().cmd;
-        updateChannelDecimal(GROUP_CONFIG, CHANNEL_COMMAND, command != -1 ? command : null);
+        updateChannelDecimal(channels.get(CONFIG_COMMAND), command != -1 ? command : null);
 
         if (theMower.multiZoneSupported()) {
-            for (int zoneIndex = 0; zoneIndex < theMower.getZonesSize(); zoneIndex++) {
-                updateChannelQuantity(GROUP_MULTI_ZONES, CHANNEL_PREFIX_ZONE.formatted(zoneIndex + 1),
-                        theMower.getZoneMeter(zoneIndex), SIUnits.METRE);
+            int zones = Math.min(theMower.getZonesSize(), CHANNEL_ZONES.size());
+            for (int zoneIndex = 0; zoneIndex < zones; zoneIndex++) {
+                updateChannelQuantity(channels.zone(zoneIndex), theMower.getZoneMeter(zoneIndex), SIUnits.METRE);
             }
 
-            for (int allocationIndex = 0; allocationIndex < theMower.getAllocationsSize(); allocationIndex++) {
-                updateChannelDecimal(GROUP_MULTI_ZONES, CHANNEL_PREFIX_ALLOCATION.formatted(allocationIndex),
-                        theMower.getAllocation(allocationIndex));
+            int allocations = Math.min(theMower.getAllocationsSize(), CHANNEL_ALLOCATIONS.size());
+            for (int allocationIndex = 0; allocationIndex < allocations; allocationIndex++) {
+                updateChannelDecimal(channels.allocation(allocationIndex), theMower.getAllocation(allocationIndex));
             }
-            updateChannelOnOff(GROUP_MULTI_ZONES, CHANNEL_ENABLE, theMower.isMultiZoneEnable());
+            updateChannelOnOff(channels.get(MULTI_ZONES_ENABLE), theMower.isMultiZoneEnable());
         }
 
         int rainDelay = theMower.getPayloadCfg().rainDelay;
-        updateChannelQuantity(GROUP_RAIN, CHANNEL_DELAY,
+        updateChannelQuantity(channels.get(RAIN_DELAY),
                 theMower.rainDelaySupported() && rainDelay != -1 ? rainDelay : null, Units.MINUTE);
     }
 
     /**
      * @param theMower
      * @param scDSlot scheduled day slot
-     * @param d scheduled day
+     * @param now current time
      */
-    private void updateStateCfgScDays(Mower theMower, int scDSlot, List<List<String>> d) {
-        List<ZonedDateTime> nextStarts = new ArrayList<>();
-        List<ZonedDateTime> nextEnds = new ArrayList<>();
-
+    private void updateStateCfgScDays(Mower theMower, int scDSlot, ZonedDateTime now) {
+        ZonedDateTime today = now.truncatedTo(ChronoUnit.MINUTES);
         for (WorxLandroidDayCodes dayCode : WorxLandroidDayCodes.values()) {
             ScheduledDay scheduledDay = theMower.getScheduledDay(scDSlot, dayCode);
             if (scheduledDay == null) {
                 return;
             }
 
-            String groupName = "%s%s".formatted(dayCode.getDescription().toLowerCase(),
-                    scDSlot == 1 ? "" : String.valueOf(scDSlot));
-
-            updateChannelOnOff(groupName, CHANNEL_ENABLE, scheduledDay.isEnabled());
-            updateChannelOnOff(groupName, CHANNEL_EDGECUT, scheduledDay.isEdgecut());
-            updateChannelQuantity(groupName, CHANNEL_DURATION, scheduledDay.getDuration(), Units.MINUTE);
-
-            if (scheduledDay.isEnabled()) {
-                ZonedDateTime scheduleStart = ZonedDateTime.now().truncatedTo(ChronoUnit.MINUTES)
-                        .with(scheduledDay.getStartTime());
-                scheduleStart = ZonedDateTime.from(dayCode.dayOfWeek.adjustInto(scheduleStart));
-                updateChannelDateTime(groupName, CHANNEL_TIME, scheduleStart);
-                ZonedDateTime scheduleEnd = scheduleStart.plusMinutes(scheduledDay.getDuration());
-                if (scheduleStart.isBefore(ZonedDateTime.now())) {
-                    scheduleStart = scheduleStart.plusDays(7);
-                }
-                if (scheduleEnd.isBefore(ZonedDateTime.now())) {
-                    scheduleEnd = scheduleEnd.plusDays(7);
-                }
+            updateChannelOnOff(channels.day(scDSlot, dayCode, DayChannel.ENABLE), scheduledDay.isEnabled());
+            updateChannelOnOff(channels.day(scDSlot, dayCode, DayChannel.EDGECUT), scheduledDay.isEdgecut());
+            updateChannelQuantity(channels.day(scDSlot, dayCode, DayChannel.DURATION), scheduledDay.getDuration(),
+                    Units.MINUTE);
 
-                nextStarts.add(scheduleStart);
-                nextEnds.add(scheduleEnd);
+            ChannelUID timeChannel = channels.day(scDSlot, dayCode, DayChannel.TIME);
+            if (scheduledDay.isEnabled() && isLinked(timeChannel)) {
+                ZonedDateTime scheduleStart = today.with(scheduledDay.getStartTime());
+                updateChannelDateTime(timeChannel, ZonedDateTime.from(dayCode.dayOfWeek.adjustInto(scheduleStart)));
             }
         }
-        if (!nextStarts.isEmpty()) {
-            Collections.sort(nextStarts);
-            Collections.sort(nextEnds);
-            updateChannelDateTime(GROUP_SCHEDULE, CHANNEL_START, nextStarts.get(0));
-            updateChannelDateTime(GROUP_SCHEDULE, CHANNEL_STOP, nextEnds.get(0));
+    }
+
+    private void updateStateTimeline(ScheduleTimeline timeline, ZonedDateTime now) {
+        ChannelUID timelineChannel = channels.get(TIMELINE);
+        boolean timelineLinked = isLinked(timelineChannel);
+        if (!timelineLinked && !isLinked(channels.get(NEXT_START)) && !isLinked(channels.get(NEXT_STOP))) {
+            return;
+        }
+        List<Window> upcoming = timeline.next(now, TIMELINE_WINDOWS);
+        Optional<Window> current = timeline.current(now);
+        updateChannelDateTime(channels.get(NEXT_START), upcoming.isEmpty() ? null : upcoming.get(0).start());
+        updateChannelDateTime(channels.get(NEXT_STOP),
+                current.or(() -> upcoming.stream().findFirst()).map(Window::end).orElse(null));
+        if (timelineLinked) {
+            updateChannelString(timelineChannel,
+                    upcoming.isEmpty() ? null
+                            : upcoming.stream().map(window -> "%s-%s".formatted(window.start().format(TIMELINE_START),
+                                    window.end().format(TIMELINE_END))).collect(Collectors.joining(", ")));
         }
     }
 
@@ -549,28 +744,59 @@ public class WorxLandroidMowerHandler extends AWSClientThingHandler {
         return rssi > -50 ? 4 : rssi > -60 ? 3 : rssi > -70 ? 2 : rssi > -85 ? 1 : 0;
     }
 
-    public void publishMessage(String topic, Object command) {
-        publishMessage(topic, deserializer.toJson(command));
+    @Override
+    protected void internalHandlePayload(Payload payload) {
+        Optional<Mower> previous;
+        Optional<Mower> updated;
+        do {
+            previous = mower.get();
+            updated = previous.map(theMower -> theMower.withStatus(payload));
+        } while (!mower.compareAndSet(previous, updated));
+        ZonedDateTime received = ZonedDateTime.now();
+        lastMessage = received.toInstant();
+
+        if (previous.isPresent() && updated.isPresent()) {
+            Mower before = previous.get();
+            Mower theMower = updated.get();
+            if (before.isZoneMeterRestorePending() && !theMower.isZoneMeterRestorePending()) {
+                sendCommand(theMower, new ZoneMeterCommand(before.getZoneMeterRestoreValues()));
+            }
+            telemetry.ifPresent(buffer -> buffer.append(received.toInstant(), payload));
+            updateStateCfg(theMower);
+            updateStateDat(theMower);
+            sessionTracker.update(theMower, received).ifPresent(this::updateStateSession);
+            schedulePoll();
+        }
+    }
+
+    private void updateStateSession(SessionTracker.Session session) {
+        updateChannelOnOff(channels.get(SESSION_ACTIVE), session.active());
+        updateChannelDateTime(channels.get(SESSION_START), session.start());
+        updateChannelQuantity(channels.get(SESSION_DURATION), session.duration().toMinutes(), Units.MINUTE);
+        updateChannelQuantity(channels.get(SESSION_DISTANCE), session.distance(), SIUnits.METRE);
+        updateChannelQuantity(channels.get(SESSION_BATTERY_CONSUMED), session.batteryConsumed(), Units.PERCENT);
+        updateChannelDecimal(channels.get(SESSION_ZONE), session.zone());
     }
 
     @Override
-    protected void internalHandlePayload(Payload payload) {
-        mower.ifPresent(theMower -> {
-            theMower.setStatus(payload);
+    protected void internalRefresh() {
+        mower.get().ifPresent(theMower -> {
             updateStateCfg(theMower);
             updateStateDat(theMower);
         });
+        sessionTracker.getSession().ifPresent(this::updateStateSession);
     }
 
     private boolean resetStat(String channelId, String serialNumber) {
         WorxLandroidBridgeHandler bridgeHandler = getBridgeHandler(getBridge(), WorxLandroidBridgeHandler.class);
         if (bridgeHandler != null) {
             logger.debug("Resetting {}", channelId);
-            if (CHANNEL_BLADE_TIME.equals(channelId)) {
-                bridgeHandler.resetBladeTime(serialNumber);
-            } else {
-                bridgeHandler.resetBatteryCycles(serialNumber);
-            }
+            (CHANNEL_BLADE_TIME.equals(channelId) ? bridgeHandler.resetBladeTime(serialNumber)
+                    : bridgeHandler.resetBatteryCycles(serialNumber)).thenAccept(done -> {
+                        if (!done) {
+                            logger.warn("Resetting {} failed", channelId);
+                        }
+                    });
         }
         return true;
     }
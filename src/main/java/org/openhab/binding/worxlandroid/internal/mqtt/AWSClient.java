@@ -15,11 +15,12 @@ package org.openhab.binding.worxlandroid.internal.mqtt;
 import java.io.UnsupportedEncodingException;
 import java.nio.charset.StandardCharsets;
 import java.time.LocalDateTime;
-import java.util.HashMap;
 import java.util.Map;
-import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Consumer;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
@@ -45,133 +46,153 @@ import software.amazon.awssdk.iot.AwsIotMqttConnectionBuilder;
  * @author Nils - Initial contribution
  */
 @NonNullByDefault
-public class AWSClient implements MqttClientConnectionEvents {
+public class AWSClient {
     private static final QualityOfService QOS = QualityOfService.AT_MOST_ONCE;
     private static final String AUTHORIZER_NAME = "com-worxlandroid-customer";
     private static final String MQTT_USERNAME = "openhab";
+    private static final int CONNECT_TIMEOUT_S = 30;
+    private static final int DEFAULT_PORT = 443;
 
     private final ScheduledExecutorService scheduler = ThreadPoolManager.getScheduledPool("AWSClient");
-    private final Map<String, Consumer<MqttMessage>> subscriptions = new HashMap<>();
+    private final Map<String, Consumer<MqttMessage>> subscriptions = new ConcurrentHashMap<>();
     private final Logger logger = LoggerFactory.getLogger(AWSClient.class);
     private final AWSClientCallbackI clientCallback;
+    private final ConnectionFactory connectionFactory;
 
-    private @Nullable MqttClientConnection mqttClient;
-    private LocalDateTime lastResumed = LocalDateTime.MIN;
-    private boolean connected;
+    private final AtomicReference<@Nullable MqttClientConnection> mqttClient = new AtomicReference<>();
+    private volatile LocalDateTime lastResumed = LocalDateTime.MIN;
+    private volatile boolean connected;
+
+    /**
+     * Builds the connection to the broker, replaced by tests to run against a fake connection.
+     */
+    @FunctionalInterface
+    interface ConnectionFactory {
+        MqttClientConnection create(String endpoint, String userId, String clientUuid, String token,
+                MqttClientConnectionEvents events) throws MqttException, UnsupportedEncodingException;
+    }
 
     public AWSClient(AWSClientCallbackI clientCallback) {
+        this(clientCallback, AWSClient::buildConnection);
+    }
+
+    AWSClient(AWSClientCallbackI clientCallback, ConnectionFactory connectionFactory) {
         this.clientCallback = clientCallback;
+        this.connectionFactory = connectionFactory;
     }
 
-    public void connect(String endpoint, String userId, String productUuid, String token) {
+    private static MqttClientConnection buildConnection(String endpoint, String userId, String clientUuid,
+            String token, MqttClientConnectionEvents events) throws MqttException, UnsupportedEncodingException {
         String[] tok = token.replaceAll("_", "/").replaceAll("-", "+").split("\\.");
 
-        try {
-            MqttClientConnection connection = AwsIotMqttConnectionBuilder.newDefaultBuilder()
-                    // .withCustomAuthorizer(MQTT_USERNAME, AUTHORIZER_NAME, tok[2], null, MQTT_USERNAME, token)
-                    .withClientId("WX/USER/%s/%s/%s".formatted(userId, MQTT_USERNAME, productUuid))
-                    .withEndpoint(endpoint).withUsername(MQTT_USERNAME).withCleanSession(false).withKeepAliveSecs(300)
-                    .withConnectionEventCallbacks(this).withWebsockets(true)
-                    .withWebsocketHandshakeTransform(handshakeArgs -> {
-                        HttpRequest httpRequest = handshakeArgs.getHttpRequest();
-                        httpRequest.addHeader("x-amz-customauthorizer-name", AUTHORIZER_NAME);
-                        httpRequest.addHeader("x-amz-customauthorizer-signature", tok[2]);
-                        httpRequest.addHeader("jwt", tok[0] + "." + tok[1]);
-                        handshakeArgs.complete(httpRequest);
-                    }).build();
-            connection.connect().get();
-            this.mqttClient = connection;
-        } catch (MqttException | UnsupportedEncodingException | InterruptedException | ExecutionException e) {
-            clientCallback.onAWSConnectionFailed(e.getMessage());
+        // An explicit port can be given after the host, e.g. to reach a local broker
+        String host = endpoint;
+        int port = DEFAULT_PORT;
+        int colon = endpoint.lastIndexOf(':');
+        if (colon > 0) {
+            host = endpoint.substring(0, colon);
+            try {
+                port = Integer.parseInt(endpoint.substring(colon + 1));
+            } catch (NumberFormatException e) {
+                throw new MqttException("Invalid port in MQTT endpoint " + endpoint);
+            }
         }
-    }
 
-    public void dispose() {
-        disconnect();
-        subscriptions.clear();
+        return AwsIotMqttConnectionBuilder.newDefaultBuilder()
+                // .withCustomAuthorizer(MQTT_USERNAME, AUTHORIZER_NAME, tok[2], null, MQTT_USERNAME, token)
+                .withClientId("WX/USER/%s/%s/%s".formatted(userId, MQTT_USERNAME, clientUuid)).withEndpoint(host)
+                .withPort(port)
+                .withUsername(MQTT_USERNAME).withCleanSession(false).withKeepAliveSecs(300)
+                .withConnectionEventCallbacks(events).withWebsockets(true)
+                .withWebsocketHandshakeTransform(handshakeArgs -> {
+                    HttpRequest httpRequest = handshakeArgs.getHttpRequest();
+                    httpRequest.addHeader("x-amz-customauthorizer-name", AUTHORIZER_NAME);
+                    httpRequest.addHeader("x-amz-customauthorizer-signature", tok[2]);
+                    httpRequest.addHeader("jwt", tok[0] + "." + tok[1]);
+                    handshakeArgs.complete(httpRequest);
+                }).build();
     }
 
-    @Override
-    public void onConnectionSuccess(@NonNullByDefault({}) OnConnectionSuccessReturn data) {
-        onConnectionResumed(data.getSessionPresent());
-    }
-
-    @Override
-    public void onConnectionResumed(boolean sessionPresent) {
-        connected = sessionPresent;
-        if (sessionPresent) {
-            lastResumed = LocalDateTime.now();
-            logger.debug("last connection resume {}", lastResumed);
-            subscriptions.forEach(this::subscribe);
-            clientCallback.onAWSConnectionSuccess();
-        } else {
-            clientCallback.onAWSConnectionClosed();
+    /**
+     * Opens the connection without waiting for it to be established, the outcome is reported through the
+     * {@link AWSClientCallbackI}.
+     */
+    public void connect(String endpoint, String userId, String clientUuid, String token) {
+        ConnectionEvents events = new ConnectionEvents();
+        MqttClientConnection connection;
+        try {
+            connection = connectionFactory.create(endpoint, userId, clientUuid, token, events);
+        } catch (MqttException | UnsupportedEncodingException e) {
+            clientCallback.onAWSConnectionFailed(e.getMessage());
+            return;
         }
-    }
+        events.connection = connection;
 
-    @Override
-    public void onConnectionInterrupted(int errorCode) {
-        LocalDateTime interrupted = LocalDateTime.now();
+        // The new connection is not established yet, subscriptions will be sent when it is
         connected = false;
-        String error = CRT.awsErrorString(errorCode);
-        logger.debug("connection interrupted errorcode: {} : {}", errorCode, error);
-
-        scheduler.schedule(() -> {
-            /**
-             * workaround -> after 20 minutes the connection is interrupted but immediately resumed (~0,5sec).
-             * ConnectionBuilder with ".withKeepAliveSecs(300)" doesn't work
-             */
-            boolean isBetween = lastResumed.isAfter(interrupted) && lastResumed.isBefore(LocalDateTime.now());
-            logger.debug("lastResumed: {}  interrupted: {} in: {}", lastResumed, interrupted, isBetween);
-            if (!isBetween) {
+        MqttClientConnection previous = mqttClient.getAndSet(connection);
+        if (previous != null) {
+            closeConnection(previous);
+        }
+        connection.connect().orTimeout(CONNECT_TIMEOUT_S, TimeUnit.SECONDS).whenComplete((sessionPresent, e) -> {
+            // Success and failures are reported by the connection events, only the timeout is handled here
+            if (e instanceof TimeoutException && mqttClient.compareAndSet(connection, null)) {
+                logger.debug("Connection not established after {} seconds", CONNECT_TIMEOUT_S);
+                connected = false;
+                closeConnection(connection);
                 clientCallback.onAWSConnectionClosed();
+            } else if (e != null) {
+                logger.debug("Connection failed: {}", e.getMessage());
             }
-        }, 5, TimeUnit.SECONDS);
+        });
     }
 
-    @Override
-    public void onConnectionFailure(@NonNullByDefault({}) OnConnectionFailureReturn data) {
-        connected = false;
-        if (data.getErrorCode() == 5134) {
-            clientCallback.onAWSConnectionFailed("Error code 5134: banned 24h");
-        } else {
-            logger.debug("{}", data.toString());
-            clientCallback.onAWSConnectionClosed();
-        }
-    };
+    public void dispose() {
+        disconnect();
+        subscriptions.clear();
+    }
 
     public void disconnect() {
-        MqttClientConnection connection = mqttClient;
+        connected = false;
+        MqttClientConnection connection = mqttClient.getAndSet(null);
         if (connection != null) {
-            connection.disconnect();
-            connection.close();
-            mqttClient = null;
+            closeConnection(connection);
         }
-        connected = false;
     }
 
+    private void closeConnection(MqttClientConnection connection) {
+        connection.disconnect();
+        connection.close();
+    }
+
+    /**
+     * Registers the handler of the topic. Subscription is sent immediately if the connection is established, otherwise
+     * it will be done when the connection is (re)established.
+     */
     public void subscribe(String topic, Consumer<MqttMessage> handler) {
-        MqttClientConnection connection = mqttClient;
-        if (connection != null) {
-            subscriptions.put(topic, handler);
+        subscriptions.put(topic, handler);
+        MqttClientConnection connection = mqttClient.get();
+        if (connection != null && connected) {
             connection.subscribe(topic, QOS, handler);
         } else {
-            logger.warn("Tried to subscribe on {} when connection is closed", topic);
+            logger.debug("Subscription to {} delayed until connection is opened", topic);
         }
     }
 
     public void unsubscribe(String topic) {
-        MqttClientConnection connection = mqttClient;
+        subscriptions.remove(topic);
+        MqttClientConnection connection = mqttClient.get();
         if (connection != null) {
-            subscriptions.remove(topic);
             connection.unsubscribe(topic);
-        } else {
-            logger.warn("Tried to unsubscribe from {} when connection is closed", topic);
         }
     }
 
+    public boolean hasSubscriptions() {
+        return !subscriptions.isEmpty();
+    }
+
     public void publish(String topic, String payload) {
-        MqttClientConnection connection = mqttClient;
+        MqttClientConnection connection = mqttClient.get();
         if (connection != null) {
             connection.publish(new MqttMessage(topic, payload.getBytes(StandardCharsets.UTF_8), QOS));
         } else {
@@ -182,4 +203,89 @@ public class AWSClient implements MqttClientConnectionEvents {
     public boolean isConnected() {
         return connected;
     }
+
+    /**
+     * @return true if a connection has been opened, even if not (yet) established
+     */
+    public boolean isActive() {
+        return mqttClient.get() != null;
+    }
+
+    /**
+     * Forwards the events of one connection. Once it has been replaced or closed, its late events (e.g. the failure
+     * of a connection closed during the swap) are dropped so they can't alter the state of the current one.
+     */
+    private class ConnectionEvents implements MqttClientConnectionEvents {
+        private volatile @Nullable MqttClientConnection connection;
+
+        private boolean isCurrent() {
+            MqttClientConnection current = connection;
+            return current != null && mqttClient.get() == current;
+        }
+
+        /**
+         * The connection is established whether or not the broker kept a session for our client id. Without a
+         * session (first connection, expired session) it does not know our subscriptions, so they are always sent
+         * again.
+         */
+        @Override
+        public void onConnectionSuccess(@NonNullByDefault({}) OnConnectionSuccessReturn data) {
+            if (!isCurrent()) {
+                logger.debug("Ignoring success of a replaced connection");
+                return;
+            }
+            connected = true;
+            lastResumed = LocalDateTime.now();
+            logger.debug("last connection resume {}, session present: {}", lastResumed, data.getSessionPresent());
+            subscriptions.forEach(AWSClient.this::subscribe);
+            clientCallback.onAWSConnectionSuccess();
+        }
+
+        /**
+         * A resumed connection is also reported by {@link #onConnectionSuccess}, which does the work.
+         */
+        @Override
+        public void onConnectionResumed(boolean sessionPresent) {
+            logger.debug("connection resumed, session present: {}", sessionPresent);
+        }
+
+        @Override
+        public void onConnectionInterrupted(int errorCode) {
+            if (!isCurrent()) {
+                logger.debug("Ignoring interruption of a replaced connection");
+                return;
+            }
+            LocalDateTime interrupted = LocalDateTime.now();
+            connected = false;
+            String error = CRT.awsErrorString(errorCode);
+            logger.debug("connection interrupted errorcode: {} : {}", errorCode, error);
+
+            scheduler.schedule(() -> {
+                /**
+                 * workaround -> after 20 minutes the connection is interrupted but immediately resumed (~0,5sec).
+                 * ConnectionBuilder with ".withKeepAliveSecs(300)" doesn't work
+                 */
+                boolean isBetween = lastResumed.isAfter(interrupted) && lastResumed.isBefore(LocalDateTime.now());
+                logger.debug("lastResumed: {}  interrupted: {} in: {}", lastResumed, interrupted, isBetween);
+                if (!isBetween && isCurrent()) {
+                    clientCallback.onAWSConnectionClosed();
+                }
+            }, 5, TimeUnit.SECONDS);
+        }
+
+        @Override
+        public void onConnectionFailure(@NonNullByDefault({}) OnConnectionFailureReturn data) {
+            if (!isCurrent()) {
+                logger.debug("Ignoring failure of a replaced connection");
+                return;
+            }
+            connected = false;
+            if (data.getErrorCode() == 5134) {
+                clientCallback.onAWSConnectionFailed("Error code 5134: banned 24h");
+            } else {
+                logger.debug("{}", data.toString());
+                clientCallback.onAWSConnectionClosed();
+            }
+        }
+    }
 }
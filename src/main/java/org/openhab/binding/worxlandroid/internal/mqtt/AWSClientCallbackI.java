@@ -12,6 +12,8 @@
  */
 package org.openhab.binding.worxlandroid.internal.mqtt;
 
+import java.time.Instant;
+
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
 
@@ -37,4 +39,13 @@ public interface AWSClientCallbackI {
      * callback method on connection failed
      */
     public void onAWSConnectionFailed(@Nullable String message);
+
+    /**
+     * callback method when a reconnection is planned or the connection is back
+     *
+     * @param attempt number of reconnection attempts since the connection was lost, 0 once reconnected
+     * @param nextRetry time of the next attempt, null if none is planned
+     */
+    public default void onAWSReconnectScheduled(int attempt, @Nullable Instant nextRetry) {
+    }
 }
@@ -0,0 +1,226 @@
+/**
+ * Copyright (c) 2010-2023 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.worxlandroid.internal.telemetry;
+
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.openhab.binding.worxlandroid.internal.api.dto.Payload;
+import org.openhab.binding.worxlandroid.internal.api.dto.Payload.Battery;
+import org.openhab.binding.worxlandroid.internal.api.dto.Payload.Dat;
+import org.openhab.binding.worxlandroid.internal.api.dto.Payload.Dat.Axis;
+import org.openhab.binding.worxlandroid.internal.api.dto.Payload.Stat;
+import org.openhab.binding.worxlandroid.internal.codes.CodeTable;
+import org.openhab.binding.worxlandroid.internal.codes.WorxLandroidErrorCodes;
+import org.openhab.binding.worxlandroid.internal.codes.WorxLandroidStatusCodes;
+
+/**
+ * The {@link TelemetryBuffer} keeps the last received payloads of a mower as fixed size records in a memory mapped
+ * ring file. The file survives restarts and lives outside of the heap. Records are stored in reception order, which
+ * allows range scans by binary search on the timestamp.
+ *
+ * @author agent - Initial contribution
+ *
+ */
+@NonNullByDefault
+public class TelemetryBuffer implements AutoCloseable {
+    private static final int MAGIC = 0x574F5258; // WORX
+    private static final int VERSION = 2;
+    private static final int HEADER_SIZE = 32;
+    private static final int COUNT_OFFSET = 16;
+    private static final int RECORD_SIZE = 48;
+
+    public record Sample(Instant timestamp, WorxLandroidStatusCodes status, WorxLandroidErrorCodes error,
+            int batteryLevel, float batteryVoltage, float batteryTemp, int rssi, float pitch, float roll, float yaw,
+            int bladeTime, int workTime) {
+    }
+
+    public record Aggregate(Instant start, int count, double batteryLevel, double batteryVoltage, double batteryTemp,
+            double rssi, int bladeTime, int workTime) {
+    }
+
+    private final FileChannel channel;
+    private final MappedByteBuffer buffer;
+    private final int capacity;
+    private long count;
+
+    public TelemetryBuffer(Path file, int capacity) throws IOException {
+        Files.createDirectories(file.getParent());
+        this.capacity = capacity;
+        this.channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                StandardOpenOption.WRITE);
+        long size = HEADER_SIZE + (long) capacity * RECORD_SIZE;
+        if (channel.size() != size) {
+            channel.truncate(0);
+        }
+        this.buffer = channel.map(MapMode.READ_WRITE, 0, size);
+        if (buffer.getInt(0) == MAGIC && buffer.getInt(4) == VERSION && buffer.getInt(8) == RECORD_SIZE
+                && buffer.getInt(12) == capacity) {
+            count = buffer.getLong(COUNT_OFFSET);
+        } else {
+            // Layout changed or new file: start from an empty buffer
+            buffer.putInt(0, MAGIC).putInt(4, VERSION).putInt(8, RECORD_SIZE).putInt(12, capacity);
+            buffer.putLong(COUNT_OFFSET, 0);
+            count = 0;
+        }
+    }
+
+    public synchronized void append(Instant timestamp, Payload payload) {
+        Dat dat = payload.dat;
+        Battery battery = dat.battery;
+        Stat stat = dat.st;
+        // Keep timestamps ordered even if the clock goes backward, binary search relies on it
+        long millis = timestamp.toEpochMilli();
+        if (count > 0) {
+            millis = Math.max(millis, timestampAt(count - 1));
+        }
+
+        int offset = offset(count);
+        buffer.putLong(offset, millis);
+        // Worx codes rather than ordinals, so that records stay valid when the enums evolve
+        buffer.putShort(offset + 8, (short) CodeTable.STATUS_CODES.code(dat.statusCode));
+        buffer.putShort(offset + 10, (short) CodeTable.ERROR_CODES.code(dat.errorCode));
+        buffer.putShort(offset + 12, (short) (battery != null ? battery.level : -1));
+        buffer.putShort(offset + 14, (short) dat.wifiQuality);
+        buffer.putFloat(offset + 16, battery != null ? (float) battery.voltage : -1);
+        buffer.putFloat(offset + 20, battery != null ? (float) battery.temp : -1);
+        buffer.putFloat(offset + 24, (float) dat.getAngle(Axis.PITCH));
+        buffer.putFloat(offset + 28, (float) dat.getAngle(Axis.ROLL));
+        buffer.putFloat(offset + 32, (float) dat.getAngle(Axis.YAW));
+        buffer.putInt(offset + 36, stat != null ? stat.bladeWorkTime : -1);
+        buffer.putInt(offset + 40, stat != null ? stat.mowerWorkTime : -1);
+
+        count++;
+        buffer.putLong(COUNT_OFFSET, count);
+    }
+
+    /**
+     * Returns the samples recorded between from (inclusive) and to (exclusive), oldest first.
+     */
+    public synchronized List<Sample> scan(Instant from, Instant to) {
+        List<Sample> result = new ArrayList<>();
+        for (long index = firstIndexFrom(from.toEpochMilli()); index < count; index++) {
+            if (timestampAt(index) >= to.toEpochMilli()) {
+                break;
+            }
+            result.add(sampleAt(index));
+        }
+        return result;
+    }
+
+    /**
+     * Downsamples the samples recorded between from and to in buckets of the given duration. Battery and signal
+     * values are averaged, ignoring unknown battery values, counters keep their highest value. Empty buckets are
+     * skipped, an average is -1 when no value was known in its bucket.
+     */
+    public synchronized List<Aggregate> aggregate(Instant from, Instant to, Duration bucket) {
+        List<Aggregate> result = new ArrayList<>();
+        long bucketMs = Math.max(1, bucket.toMillis());
+        long bucketStart = from.toEpochMilli();
+        int n = 0, nLevel = 0, nVoltage = 0, nTemp = 0, bladeTime = -1, workTime = -1;
+        double level = 0, voltage = 0, temp = 0, rssi = 0;
+
+        for (long index = firstIndexFrom(from.toEpochMilli()); index <= count; index++) {
+            long timestamp = index < count ? timestampAt(index) : Long.MAX_VALUE;
+            if (timestamp >= bucketStart + bucketMs || timestamp >= to.toEpochMilli()) {
+                if (n > 0) {
+                    result.add(new Aggregate(Instant.ofEpochMilli(bucketStart), n, average(level, nLevel),
+                            average(voltage, nVoltage), average(temp, nTemp), rssi / n, bladeTime, workTime));
+                }
+                if (timestamp >= to.toEpochMilli()) {
+                    break;
+                }
+                bucketStart += (timestamp - bucketStart) / bucketMs * bucketMs;
+                n = nLevel = nVoltage = nTemp = 0;
+                bladeTime = workTime = -1;
+                level = voltage = temp = rssi = 0;
+            }
+            int offset = offset(index);
+            n++;
+            rssi += buffer.getShort(offset + 14);
+            short sampleLevel = buffer.getShort(offset + 12);
+            if (sampleLevel != -1) {
+                level += sampleLevel;
+                nLevel++;
+            }
+            float sampleVoltage = buffer.getFloat(offset + 16);
+            if (sampleVoltage != -1) {
+                voltage += sampleVoltage;
+                nVoltage++;
+            }
+            float sampleTemp = buffer.getFloat(offset + 20);
+            if (sampleTemp != -1) {
+                temp += sampleTemp;
+                nTemp++;
+            }
+            bladeTime = Math.max(bladeTime, buffer.getInt(offset + 36));
+            workTime = Math.max(workTime, buffer.getInt(offset + 40));
+        }
+        return result;
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        buffer.force();
+        channel.close();
+    }
+
+    private static double average(double sum, int count) {
+        return count > 0 ? sum / count : -1;
+    }
+
+    private long oldestIndex() {
+        return Math.max(0, count - capacity);
+    }
+
+    private long firstIndexFrom(long millis) {
+        long low = oldestIndex(), high = count;
+        while (low < high) {
+            long middle = (low + high) >>> 1;
+            if (timestampAt(middle) < millis) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
+    private int offset(long index) {
+        return HEADER_SIZE + (int) (index % capacity) * RECORD_SIZE;
+    }
+
+    private long timestampAt(long index) {
+        return buffer.getLong(offset(index));
+    }
+
+    private Sample sampleAt(long index) {
+        int offset = offset(index);
+        return new Sample(Instant.ofEpochMilli(buffer.getLong(offset)),
+                CodeTable.STATUS_CODES.get(buffer.getShort(offset + 8)),
+                CodeTable.ERROR_CODES.get(buffer.getShort(offset + 10)),
+                buffer.getShort(offset + 12), buffer.getFloat(offset + 16), buffer.getFloat(offset + 20),
+                buffer.getShort(offset + 14), buffer.getFloat(offset + 24), buffer.getFloat(offset + 28),
+                buffer.getFloat(offset + 32), buffer.getInt(offset + 36), buffer.getInt(offset + 40));
+    }
+}
@@ -15,15 +15,15 @@ package org.openhab.binding.worxlandroid.internal.vo;
 import java.time.ZonedDateTime;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.EnumMap;
 import java.util.EnumSet;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
-import org.openhab.binding.worxlandroid.internal.api.dto.Commands.ZoneMeterCommand;
 import org.openhab.binding.worxlandroid.internal.api.dto.LastStatus;
 import org.openhab.binding.worxlandroid.internal.api.dto.Payload;
 import org.openhab.binding.worxlandroid.internal.api.dto.Payload.Battery;
@@ -37,12 +37,12 @@ import org.openhab.binding.worxlandroid.internal.api.dto.Payload.Stat;
 import org.openhab.binding.worxlandroid.internal.api.dto.ProductItemStatus;
 import org.openhab.binding.worxlandroid.internal.codes.WorxLandroidDayCodes;
 import org.openhab.binding.worxlandroid.internal.codes.WorxLandroidStatusCodes;
-import org.openhab.binding.worxlandroid.internal.handler.WorxLandroidMowerHandler;
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
+
+import com.google.gson.JsonArray;
 
 /**
- * {@link Mower}
+ * {@link Mower} is an immutable snapshot of the mower state. Every change returns a new snapshot, leaving the
+ * current one untouched so that it can be shared between threads without locking.
  *
  * @author Nils - Initial contribution
  */
@@ -52,14 +52,16 @@ public class Mower {
     private static final int[] MULTI_ZONE_METER_ENABLE = { 1, 0, 0, 0 };
     private static final int TIME_EXTENSION_DISABLE = -100;
 
-    private final Logger logger = LoggerFactory.getLogger(Mower.class);
-    private final WorxLandroidMowerHandler mowerHandler;
     private final ProductItemStatus product;
 
     private final int[] zoneMeter;
     private final int[] zoneMeterRestore;
-    private final int[] allocations = new int[10];
+    private final int[] allocations;
     private final List<Map<WorxLandroidDayCodes, @Nullable ScheduledDay>> schedules = new ArrayList<>();
+    // Encoded form of each schedule slot, shared between snapshots and never modified once published
+    private final List<JsonArray> schedulesJson = new ArrayList<>();
+
+    // The following fields are only modified on a fresh copy, before it is published
 
     private boolean multiZoneEnable;
     private int timeExtension;
@@ -68,18 +70,52 @@ public class Mower {
 
     private boolean restoreZoneMeter = false;
     private int[] zoneMeterRestoreValues = {};
+    private ScheduleTimeline timeline = ScheduleTimeline.EMPTY;
 
-    public Mower(WorxLandroidMowerHandler mowerHandler, ProductItemStatus product) {
-        this.mowerHandler = mowerHandler;
+    public Mower(ProductItemStatus product) {
         this.product = product;
         this.zoneMeter = new int[getMultiZoneCount()];
         this.zoneMeterRestore = new int[getMultiZoneCount()];
+        this.allocations = new int[10];
 
-        schedules.add(new HashMap<WorxLandroidDayCodes, @Nullable ScheduledDay>(7));
+        schedules.add(new EnumMap<WorxLandroidDayCodes, @Nullable ScheduledDay>(WorxLandroidDayCodes.class));
+        schedulesJson.add(blankSchedule());
         if (product.capabilities.contains("scheduler_two_slots")) {
-            schedules.add(new HashMap<WorxLandroidDayCodes, @Nullable ScheduledDay>(7));
+            schedules.add(new EnumMap<WorxLandroidDayCodes, @Nullable ScheduledDay>(WorxLandroidDayCodes.class));
+            schedulesJson.add(blankSchedule());
         }
         setStatus(product.lastStatus.payload);
+        timeline = ScheduleTimeline.compile(schedules, timeExtension);
+    }
+
+    private Mower(Mower other) {
+        this.product = other.product;
+        this.zoneMeter = other.zoneMeter.clone();
+        this.zoneMeterRestore = other.zoneMeterRestore.clone();
+        this.allocations = other.allocations.clone();
+        other.schedules.forEach(planning -> schedules.add(new EnumMap<>(planning)));
+        this.schedulesJson.addAll(other.schedulesJson);
+        this.multiZoneEnable = other.multiZoneEnable;
+        this.timeExtension = other.timeExtension;
+        this.timeExtensionRestore = other.timeExtensionRestore;
+        this.lastStatus = other.lastStatus;
+        this.restoreZoneMeter = other.restoreZoneMeter;
+        this.zoneMeterRestoreValues = other.zoneMeterRestoreValues;
+        this.timeline = other.timeline;
+    }
+
+    private Mower with(Consumer<Mower> change) {
+        Mower copy = new Mower(this);
+        change.accept(copy);
+        // Status messages usually repeat the same schedule, the timeline is only compiled when it changes
+        if (copy.timeExtension != timeExtension || !copy.schedulesJson.equals(schedulesJson)) {
+            copy.timeline = ScheduleTimeline.compile(copy.schedules, copy.timeExtension);
+        }
+        return copy;
+    }
+
+    public ScheduleTimeline getTimeline() {
+        return timeline;
     }
 
     public String getSerialNumber() {
@@ -106,7 +142,11 @@ public class Mower {
      *
      * @param timeExtension
      */
-    public void setTimeExtension(int timeExtension) {
+    public Mower withTimeExtension(int timeExtension) {
+        return with(copy -> copy.setTimeExtension(timeExtension));
+    }
+
+    private void setTimeExtension(int timeExtension) {
         if (timeExtension == TIME_EXTENSION_DISABLE) {
             storeTimeExtension();
         }
@@ -142,28 +182,50 @@ public class Mower {
                 : scheduler2Supported() ? schedules.get(1).get(dayCode) : null;
     }
 
-    private Object[] getScheduleArray(Map<WorxLandroidDayCodes, @Nullable ScheduledDay> schedules) {
-        Object[] result = new Object[7];
-        for (WorxLandroidDayCodes dayCode : WorxLandroidDayCodes.values()) {
-            ScheduledDay schedule = schedules.get(dayCode);
-            result[dayCode.code] = schedule != null ? schedule.asArray() : ScheduledDay.BLANK.asArray();
+    public Mower withScheduledDay(int scDSlot, WorxLandroidDayCodes dayCode, ScheduledDay scheduledDay) {
+        int index = scDSlot == 1 ? 0 : 1;
+        return with(copy -> {
+            copy.schedules.get(index).put(dayCode, scheduledDay);
+            // Only the modified day is encoded again, the other ones are shared with the previous snapshot
+            JsonArray days = new JsonArray(7);
+            copy.schedulesJson.get(index).forEach(days::add);
+            days.set(dayCode.code, scheduledDay.asJson());
+            copy.schedulesJson.set(index, days);
+        });
+    }
+
+    private static JsonArray blankSchedule() {
+        JsonArray blank = ScheduledDay.BLANK.asJson();
+        JsonArray result = new JsonArray(7);
+        for (int i = 0; i < 7; i++) {
+            result.add(blank);
         }
         return result;
     }
 
-    public Object[] getSheduleArray1() {
-        return getScheduleArray(schedules.get(0));
+    /**
+     * The returned array is shared between snapshots and must not be modified.
+     */
+    public JsonArray getScheduleJson1() {
+        return schedulesJson.get(0);
     }
 
-    public Object[] getSheduleArray2() {
-        return scheduler2Supported() ? getScheduleArray(schedules.get(1)) : new Object[] {};
+    /**
+     * The returned array is shared between snapshots and must not be modified.
+     */
+    public JsonArray getScheduleJson2() {
+        return scheduler2Supported() ? schedulesJson.get(1) : new JsonArray();
     }
 
     public boolean isMultiZoneEnable() {
         return multiZoneEnable;
     }
 
-    public void setMultiZoneEnable(boolean multiZoneEnable) {
+    public Mower withMultiZoneEnable(boolean multiZoneEnable) {
+        return with(copy -> copy.setMultiZoneEnable(multiZoneEnable));
+    }
+
+    private void setMultiZoneEnable(boolean multiZoneEnable) {
         this.multiZoneEnable = multiZoneEnable;
 
         if (multiZoneEnable && isZoneMeterDisabled()) {
@@ -189,11 +251,15 @@ public class Mower {
         return getZoneMeters().length;
     }
 
-    public void setZoneMeters(int[] zoneMeterInput) {
+    private void setZoneMeters(int[] zoneMeterInput) {
         System.arraycopy(zoneMeterInput, 0, zoneMeter, 0, zoneMeter.length);
     }
 
-    public void setZoneMeter(int zoneIndex, int meter) {
+    public Mower withZoneMeter(int zoneIndex, int meter) {
+        return with(copy -> copy.setZoneMeter(zoneIndex, meter));
+    }
+
+    private void setZoneMeter(int zoneIndex, int meter) {
         zoneMeter[zoneIndex] = meter;
         this.multiZoneEnable = !isZoneMeterDisabled();
     }
@@ -210,7 +276,11 @@ public class Mower {
         return getZoneMeters().length;
     }
 
-    public void setAllocation(int allocationIndex, int zoneIndex) {
+    public Mower withAllocation(int allocationIndex, int zoneIndex) {
+        return with(copy -> copy.setAllocation(allocationIndex, zoneIndex));
+    }
+
+    private void setAllocation(int allocationIndex, int zoneIndex) {
         allocations[allocationIndex] = zoneIndex;
     }
 
@@ -224,7 +294,11 @@ public class Mower {
      * enable: timeExtension > -100
      *
      */
-    public void setEnable(boolean enable) {
+    public Mower withEnable(boolean enable) {
+        return with(copy -> copy.setEnable(enable));
+    }
+
+    private void setEnable(boolean enable) {
         if (enable && timeExtension == TIME_EXTENSION_DISABLE) {
             restoreTimeExtension();
         } else {
@@ -273,7 +347,7 @@ public class Mower {
     }
 
     public int getMultiZoneCount() {
-        return multiZoneSupported() ? product.lastStatus.payload.cfg.multizoneAllocations.size() : 0;
+        return multiZoneSupported() ? product.lastStatus.payload.cfg.multizoneAllocations.length : 0;
     }
 
     public String getMqttCommandIn() {
@@ -308,7 +382,16 @@ public class Mower {
         return getPayload().cfg;
     }
 
-    public void setStatus(Payload payload) {
+    /**
+     * Returns a snapshot updated with the given payload. When the mower has left the zone requested by
+     * {@link #withZoneTo(int)}, the returned snapshot is no more {@link #isZoneMeterRestorePending()} and the caller is
+     * expected to send back {@link #getZoneMeterRestoreValues()}.
+     */
+    public Mower withStatus(Payload payload) {
+        return with(copy -> copy.setStatus(payload));
+    }
+
+    private void setStatus(Payload payload) {
         this.lastStatus = new LastStatus(payload);
         if (restoreZoneMeter && getStatusCode() != WorxLandroidStatusCodes.HOME
                 && getStatusCode() != WorxLandroidStatusCodes.START_SEQUENCE
@@ -316,7 +399,6 @@ public class Mower {
                 && getStatusCode() != WorxLandroidStatusCodes.SEARCHING_ZONE) {
             restoreZoneMeter = false;
             setZoneMeters(zoneMeterRestoreValues);
-            sendCommand(new ZoneMeterCommand(getZoneMeters()));
         }
 
         getSchedule().ifPresent(schedule -> {
@@ -331,23 +413,27 @@ public class Mower {
 
         Cfg cfg = getPayloadCfg();
         if (multiZoneSupported()) {
-            for (int zoneIndex = 0; zoneIndex < cfg.multiZones.size(); zoneIndex++) {
-                setZoneMeter(zoneIndex, cfg.multiZones.get(zoneIndex));
+            for (int zoneIndex = 0; zoneIndex < cfg.multiZones.length; zoneIndex++) {
+                setZoneMeter(zoneIndex, cfg.multiZones[zoneIndex]);
             }
 
-            for (int allocationIndex = 0; allocationIndex < cfg.multizoneAllocations.size(); allocationIndex++) {
-                setAllocation(allocationIndex, cfg.multizoneAllocations.get(allocationIndex));
+            for (int allocationIndex = 0; allocationIndex < cfg.multizoneAllocations.length; allocationIndex++) {
+                setAllocation(allocationIndex, cfg.multizoneAllocations[allocationIndex]);
             }
         }
     }
 
     private void updateSchedules(int scDSlot, List<List<String>> d) {
         Map<WorxLandroidDayCodes, @Nullable ScheduledDay> planning = schedules.get(scDSlot);
+        JsonArray days = new JsonArray(7);
         EnumSet.allOf(WorxLandroidDayCodes.class).stream().forEach(dayCode -> {
             List<String> schedule = d.get(dayCode.code);
-            planning.put(dayCode,
-                    new ScheduledDay(schedule.get(0), Integer.valueOf(schedule.get(1)), "1".equals(schedule.get(2))));
+            int duration = Integer.valueOf(schedule.get(1));
+            boolean edgecut = "1".equals(schedule.get(2));
+            planning.put(dayCode, new ScheduledDay(schedule.get(0), duration, edgecut));
+            days.add(ScheduledDay.toJson(schedule.get(0), duration, edgecut));
         });
+        schedulesJson.set(scDSlot, days);
     }
 
     public Optional<Battery> getBattery() {
@@ -390,7 +476,11 @@ public class Mower {
         return getPayloadDat().statusCode;
     }
 
-    public void setZoneTo(int zoneIndex) {
+    public Mower withZoneTo(int zoneIndex) {
+        return with(copy -> copy.setZoneTo(zoneIndex));
+    }
+
+    private void setZoneTo(int zoneIndex) {
         zoneMeterRestoreValues = getZoneMeters();
         restoreZoneMeter = true;
 
@@ -400,9 +490,12 @@ public class Mower {
         }
     }
 
-    private void sendCommand(Object command) {
-        logger.debug("send command: {}", command);
-        mowerHandler.publishMessage(getMqttCommandIn(), command);
+    public boolean isZoneMeterRestorePending() {
+        return restoreZoneMeter;
+    }
+
+    public int[] getZoneMeterRestoreValues() {
+        return Arrays.copyOf(zoneMeterRestoreValues, zoneMeterRestoreValues.length);
     }
 
     public ZonedDateTime getLastUpdate() {
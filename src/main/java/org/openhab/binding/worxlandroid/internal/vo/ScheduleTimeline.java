@@ -0,0 +1,153 @@
+/**
+ * Copyright (c) 2010-2023 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.worxlandroid.internal.vo;
+
+import java.time.DayOfWeek;
+import java.time.LocalDateTime;
+import java.time.ZonedDateTime;
+import java.time.temporal.TemporalAdjusters;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.binding.worxlandroid.internal.codes.WorxLandroidDayCodes;
+
+/**
+ * The {@link ScheduleTimeline} is the weekly mowing plan compiled from the schedule slots and the time extension.
+ * Windows are stored as sorted, non overlapping minutes of the week starting on Monday, so that queries only need a
+ * binary search.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class ScheduleTimeline {
+    public static final ScheduleTimeline EMPTY = new ScheduleTimeline(new int[0], new int[0]);
+
+    private static final int MINUTES_PER_DAY = 24 * 60;
+    private static final int MINUTES_PER_WEEK = 7 * MINUTES_PER_DAY;
+
+    public record Window(ZonedDateTime start, ZonedDateTime end) {
+    }
+
+    private final int[] starts;
+    private final int[] ends;
+
+    private ScheduleTimeline(int[] starts, int[] ends) {
+        this.starts = starts;
+        this.ends = ends;
+    }
+
+    /**
+     * @param schedules scheduled days of each slot
+     * @param timeExtension percentage applied to the duration of each day, -100 disables mowing
+     */
+    static ScheduleTimeline compile(Collection<Map<WorxLandroidDayCodes, @Nullable ScheduledDay>> schedules,
+            int timeExtension) {
+        if (timeExtension <= -100) {
+            return EMPTY;
+        }
+        List<int[]> windows = new ArrayList<>();
+        schedules.forEach(planning -> planning.forEach((dayCode, day) -> {
+            if (day != null && day.isEnabled()) {
+                int start = (dayCode.dayOfWeek.getValue() - 1) * MINUTES_PER_DAY + day.getStartTime().getHour() * 60
+                        + day.getStartTime().getMinute();
+                int duration = day.getDuration() * (100 + timeExtension) / 100;
+                if (duration > 0) {
+                    windows.add(new int[] { start, start + duration });
+                }
+            }
+        }));
+        if (windows.isEmpty()) {
+            return EMPTY;
+        }
+        windows.sort((w1, w2) -> Integer.compare(w1[0], w2[0]));
+
+        // Merge overlapping windows so that ends are sorted too
+        int[] starts = new int[windows.size()];
+        int[] ends = new int[windows.size()];
+        int count = 0;
+        for (int[] window : windows) {
+            if (count > 0 && window[0] <= ends[count - 1]) {
+                ends[count - 1] = Math.max(ends[count - 1], window[1]);
+            } else {
+                starts[count] = window[0];
+                ends[count] = window[1];
+                count++;
+            }
+        }
+        return new ScheduleTimeline(Arrays.copyOf(starts, count), Arrays.copyOf(ends, count));
+    }
+
+    public boolean isEmpty() {
+        return starts.length == 0;
+    }
+
+    /**
+     * @return the window the given time falls in, if any
+     */
+    public Optional<Window> current(ZonedDateTime now) {
+        if (isEmpty()) {
+            return Optional.empty();
+        }
+        int minute = minuteOfWeek(now);
+        // Last window starting at or before now, a window of the previous week may still be running
+        int index = firstStartAfter(minute) - 1;
+        int offset = 0;
+        if (index < 0) {
+            index = starts.length - 1;
+            offset = -MINUTES_PER_WEEK;
+        }
+        return ends[index] + offset > minute ? Optional.of(toWindow(now, index, offset)) : Optional.empty();
+    }
+
+    /**
+     * @return the next windows starting after the given time
+     */
+    public List<Window> next(ZonedDateTime now, int count) {
+        List<Window> result = new ArrayList<>(count);
+        if (!isEmpty()) {
+            int index = firstStartAfter(minuteOfWeek(now));
+            for (int i = 0; i < count; i++) {
+                int position = index + i;
+                result.add(toWindow(now, position % starts.length, position / starts.length * MINUTES_PER_WEEK));
+            }
+        }
+        return result;
+    }
+
+    public Optional<Window> next(ZonedDateTime now) {
+        return next(now, 1).stream().findFirst();
+    }
+
+    private int firstStartAfter(int minute) {
+        int index = Arrays.binarySearch(starts, minute + 1);
+        return index >= 0 ? index : -index - 1;
+    }
+
+    private static int minuteOfWeek(ZonedDateTime time) {
+        return (time.getDayOfWeek().getValue() - 1) * MINUTES_PER_DAY + time.getHour() * 60 + time.getMinute();
+    }
+
+    private Window toWindow(ZonedDateTime now, int index, int offset) {
+        // Local arithmetic keeps windows at their wall clock time across daylight saving changes
+        LocalDateTime monday = now.toLocalDate().with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY))
+                .atStartOfDay();
+        return new Window(monday.plusMinutes(starts[index] + offset).atZone(now.getZone()),
+                monday.plusMinutes(ends[index] + offset).atZone(now.getZone()));
+    }
+}
@@ -19,8 +19,11 @@ import java.time.format.DateTimeParseException;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 
+import com.google.gson.JsonArray;
+
 /**
- * {@link ScheduledDay} holds data of the schedule details for a given day
+ * {@link ScheduledDay} holds data of the schedule details for a given day. Instances are immutable, changes
+ * produce a new instance.
  *
  * @author Nils - Initial contribution
  */
@@ -31,58 +34,75 @@ public class ScheduledDay {
     private static final DateTimeFormatter TIME_FORMAT = DateTimeFormatter.ofPattern("HH:mm");
     private static final int DEFAULT_DURATION = 15;
 
-    private LocalTime startTime = LocalTime.MIN;
-    private boolean edgecut;
-    private int durationRestore = DEFAULT_DURATION;
-    private int duration;
+    private final LocalTime startTime;
+    private final boolean edgecut;
+    private final int durationRestore;
+    private final int duration;
 
     public ScheduledDay(String hhMm, int newDuration, boolean edgecut) {
-        this.startTime = LocalTime.parse(hhMm);
-        this.duration = newDuration;
+        this(LocalTime.parse(hhMm), newDuration, edgecut, DEFAULT_DURATION);
+    }
+
+    private ScheduledDay(LocalTime startTime, int duration, boolean edgecut, int durationRestore) {
+        this.startTime = startTime;
+        this.duration = duration;
         this.edgecut = edgecut;
+        this.durationRestore = durationRestore;
     }
 
     public LocalTime getStartTime() {
         return startTime;
     }
 
-    public void setStartTime(String hhMm) throws DateTimeParseException {
-        startTime = LocalTime.parse(hhMm);
+    public ScheduledDay withStartTime(String hhMm) throws DateTimeParseException {
+        return withStartTime(LocalTime.parse(hhMm));
+    }
+
+    public ScheduledDay withStartTime(ZonedDateTime zdt) {
+        return withStartTime(zdt.toLocalTime());
     }
 
-    public void setStartTime(ZonedDateTime zdt) {
-        startTime = zdt.toLocalTime();
+    private ScheduledDay withStartTime(LocalTime newStartTime) {
+        return new ScheduledDay(newStartTime, duration, edgecut, durationRestore);
     }
 
     public int getDuration() {
         return duration;
     }
 
-    public void setDuration(int newDuration) {
-        if (newDuration == 0 && duration > 0) {
-            durationRestore = duration;
-        }
-
-        duration = newDuration;
+    public ScheduledDay withDuration(int newDuration) {
+        int restore = newDuration == 0 && duration > 0 ? duration : durationRestore;
+        return new ScheduledDay(startTime, newDuration, edgecut, restore);
     }
 
     public boolean isEdgecut() {
         return edgecut;
     }
 
-    public void setEdgecut(boolean edgecut) {
-        this.edgecut = edgecut;
+    public ScheduledDay withEdgecut(boolean newEdgecut) {
+        return new ScheduledDay(startTime, duration, newEdgecut, durationRestore);
     }
 
     public boolean isEnabled() {
         return duration != 0;
     }
 
-    public void setEnable(boolean newStatus) {
-        setDuration(newStatus && duration == 0 ? durationRestore : 0);
+    public ScheduledDay withEnable(boolean newStatus) {
+        return withDuration(newStatus && duration == 0 ? durationRestore : 0);
+    }
+
+    public JsonArray asJson() {
+        return toJson(startTime.format(TIME_FORMAT), duration, edgecut);
     }
 
-    public Object[] asArray() {
-        return new Object[] { startTime.format(TIME_FORMAT), duration, edgecut ? 1 : 0 };
+    /**
+     * Builds the JSON representation of a scheduled day as expected by the mower: [ "HH:mm", duration, edgecut ]
+     */
+    public static JsonArray toJson(String hhMm, int duration, boolean edgecut) {
+        JsonArray result = new JsonArray(3);
+        result.add(hhMm);
+        result.add(duration);
+        result.add(edgecut ? 1 : 0);
+        return result;
     }
 }
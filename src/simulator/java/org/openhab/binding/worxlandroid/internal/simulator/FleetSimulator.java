@@ -0,0 +1,102 @@
+/**
+ * Copyright (c) 2010-2023 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.worxlandroid.internal.simulator;
+
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * The {@link FleetSimulator} runs a fleet of simulated mowers behind a local Worx web API and MQTT broker. It is
+ * configured through system properties:
+ * <ul>
+ * <li>simulator.mowers: number of mowers, 10 by default</li>
+ * <li>simulator.speed: simulated seconds per real second, 1 by default</li>
+ * <li>simulator.statusInterval: simulated seconds between two statuses of an unchanged mower, 600 by default</li>
+ * <li>simulator.host: host name announced as MQTT endpoint, it must match the broker certificate</li>
+ * <li>simulator.apiPort, simulator.mqttPort: ports of the web API and of the secure websocket broker</li>
+ * <li>simulator.plainMqttPort: optional plain TCP port to watch the traffic with any MQTT client</li>
+ * <li>simulator.keyStore, simulator.keyStoreType, simulator.keyStorePassword: certificate of the broker</li>
+ * <li>simulator.timeZone: time zone of the mowers</li>
+ * </ul>
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class FleetSimulator {
+    private static final Logger LOGGER = LoggerFactory.getLogger(FleetSimulator.class);
+
+    private static String property(String name, String defaultValue) {
+        String value = System.getProperty("simulator." + name);
+        return value == null || value.isBlank() ? defaultValue : value;
+    }
+
+    private static int intProperty(String name, int defaultValue) {
+        return Integer.parseInt(property(name, Integer.toString(defaultValue)));
+    }
+
+    public static void main(String[] args) throws Exception {
+        int mowers = intProperty("mowers", 10);
+        int speed = intProperty("speed", 1);
+        int statusInterval = intProperty("statusInterval", 600);
+        String host = property("host", "localhost");
+        int apiPort = intProperty("apiPort", 8080);
+        int mqttPort = intProperty("mqttPort", 8883);
+        int plainMqttPort = intProperty("plainMqttPort", 0);
+        String keyStore = property("keyStore", "simulator.p12");
+        String keyStoreType = property("keyStoreType", "pkcs12");
+        String password = property("keyStorePassword", "changeit");
+        ZoneId zone = ZoneId.of(property("timeZone", ZoneId.systemDefault().getId()));
+
+        String mqttEndpoint = "%s:%d".formatted(host, mqttPort);
+        Holder holder = new Holder();
+        MowerFleet fleet = new MowerFleet(mowers, ZonedDateTime.now(zone), statusInterval, (topic, message) -> {
+            SimulatorBroker broker = holder.broker;
+            if (broker != null) {
+                broker.publish(topic, message);
+            }
+        });
+        ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor();
+        CountDownLatch stopped = new CountDownLatch(1);
+
+        try (SimulatorBroker broker = new SimulatorBroker("0.0.0.0", mqttPort, plainMqttPort, keyStore, keyStoreType,
+                password, (topic, message) -> scheduler.execute(() -> fleet.onCommand(topic, message)));
+                SimulatorApiServer api = new SimulatorApiServer(apiPort, fleet, mqttEndpoint)) {
+            holder.broker = broker;
+            scheduler.scheduleAtFixedRate(() -> fleet.advance(speed), 1, 1, TimeUnit.SECONDS);
+            Runtime.getRuntime().addShutdownHook(new Thread(stopped::countDown));
+
+            LOGGER.info("Simulating {} mowers at {}x speed", mowers, speed);
+            LOGGER.info("Set binding.worxlandroid:apiUrl={} in services/addons.cfg", api.getApiUrl());
+            LOGGER.info("Set the mqttEndpoint of the bridge to {}", mqttEndpoint);
+            stopped.await();
+        } finally {
+            scheduler.shutdownNow();
+        }
+    }
+
+    /**
+     * The broker publishes the fleet messages but needs the fleet to handle the commands it receives
+     */
+    private static class Holder {
+        private volatile @Nullable SimulatorBroker broker;
+    }
+}
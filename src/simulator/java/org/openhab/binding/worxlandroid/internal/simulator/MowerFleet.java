@@ -0,0 +1,177 @@
+/**
+ * Copyright (c) 2010-2023 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.worxlandroid.internal.simulator;
+
+import java.nio.charset.StandardCharsets;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiConsumer;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParseException;
+import com.google.gson.JsonParser;
+
+/**
+ * The {@link MowerFleet} holds the {@link SimulatedMower}s of one simulated Worx account and the simulated clock they
+ * share. Status changes, periodic statuses and answers to commands are handed to the publisher as (topic, JSON)
+ * pairs.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class MowerFleet {
+    private final List<SimulatedMower> mowers = new ArrayList<>();
+    private final Map<String, SimulatedMower> bySerialNumber = new HashMap<>();
+    private final Map<String, SimulatedMower> byCommandIn = new HashMap<>();
+    private final BiConsumer<String, String> publisher;
+    private final String userId;
+    private final String accessToken;
+    private final int statusInterval;
+
+    private volatile ZonedDateTime now;
+    private long elapsed;
+
+    /**
+     * @param size number of mowers of the account
+     * @param start initial simulated time
+     * @param statusInterval simulated seconds between two statuses published by an unchanged mower
+     * @param publisher receives the messages published by the mowers on their command-out topic
+     */
+    public MowerFleet(int size, ZonedDateTime start, int statusInterval, BiConsumer<String, String> publisher) {
+        if (statusInterval <= 0) {
+            throw new IllegalArgumentException("The status interval must be positive");
+        }
+        this.now = start;
+        this.statusInterval = statusInterval;
+        this.publisher = publisher;
+        this.userId = "123456";
+        this.accessToken = token(userId);
+        ZoneId zone = start.getZone();
+        for (int index = 1; index <= size; index++) {
+            SimulatedMower mower = new SimulatedMower(index, userId, zone, start.toEpochSecond());
+            mowers.add(mower);
+            bySerialNumber.put(mower.getSerialNumber(), mower);
+            byCommandIn.put(mower.getCommandIn(), mower);
+        }
+    }
+
+    /**
+     * Builds a token shaped as the Worx ones: the binding splits it in three dot separated parts
+     */
+    private static String token(String userId) {
+        Base64.Encoder encoder = Base64.getUrlEncoder().withoutPadding();
+        String header = encoder.encodeToString("{\"alg\":\"none\"}".getBytes(StandardCharsets.UTF_8));
+        String claims = encoder.encodeToString("{\"sub\":\"%s\"}".formatted(userId).getBytes(StandardCharsets.UTF_8));
+        return "%s.%s.%s".formatted(header, claims, encoder.encodeToString(userId.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    public List<SimulatedMower> getMowers() {
+        return mowers;
+    }
+
+    public @Nullable SimulatedMower getMower(String serialNumber) {
+        return bySerialNumber.get(serialNumber);
+    }
+
+    public String getUserId() {
+        return userId;
+    }
+
+    public String getAccessToken() {
+        return accessToken;
+    }
+
+    public ZonedDateTime now() {
+        return now;
+    }
+
+    /**
+     * Advances all mowers, publishing the status of those that changed or did not publish for statusInterval
+     */
+    public synchronized void advance(int seconds) {
+        ZonedDateTime time = now.plusSeconds(seconds);
+        long previous = elapsed;
+        elapsed += seconds;
+        now = time;
+        for (int index = 0; index < mowers.size(); index++) {
+            SimulatedMower mower = mowers.get(index);
+            // Periodic statuses are spread over the interval
+            long offset = index % statusInterval;
+            boolean periodic = (elapsed + offset) / statusInterval != (previous + offset) / statusInterval;
+            if (mower.advance(time, seconds) || periodic) {
+                publish(mower);
+            }
+        }
+    }
+
+    /**
+     * Handles a message published on a command-in topic, the mower answers with its status
+     *
+     * @return false if no mower listens to this topic
+     */
+    public boolean onCommand(String topic, String message) {
+        SimulatedMower mower = byCommandIn.get(topic);
+        if (mower == null) {
+            return false;
+        }
+        try {
+            if (JsonParser.parseString(message) instanceof JsonObject command) {
+                mower.apply(command, now);
+            }
+        } catch (JsonParseException | IllegalStateException | UnsupportedOperationException | NumberFormatException e) {
+            // A real mower ignores malformed commands, it still publishes its status
+        }
+        publish(mower);
+        return true;
+    }
+
+    private void publish(SimulatedMower mower) {
+        JsonElement payload = mower.payload(now);
+        publisher.accept(mower.getCommandOut(), payload.toString());
+    }
+
+    /**
+     * @return the answer to a product-items request
+     */
+    public JsonArray productItems(String mqttEndpoint) {
+        ZonedDateTime time = now;
+        JsonArray items = new JsonArray();
+        mowers.forEach(mower -> items.add(mower.productItem(mqttEndpoint, time)));
+        return items;
+    }
+
+    /**
+     * @return the answer to a users/me request
+     */
+    public JsonObject me() {
+        JsonObject me = new JsonObject();
+        me.addProperty("id", userId);
+        me.addProperty("user_type", "customer");
+        me.addProperty("push_notifications", true);
+        me.addProperty("location", "fr");
+        me.addProperty("actions_on_google_pin_code", "");
+        me.addProperty("created_at", "2022-04-01 10:00:00");
+        me.addProperty("updated_at", "2022-04-01 10:00:00");
+        return me;
+    }
+}
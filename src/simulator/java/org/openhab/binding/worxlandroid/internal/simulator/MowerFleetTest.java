@@ -0,0 +1,150 @@
+/**
+ * Copyright (c) 2010-2023 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.worxlandroid.internal.simulator;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.openhab.binding.worxlandroid.internal.codes.WorxLandroidStatusCodes.*;
+
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.junit.jupiter.api.Test;
+import org.openhab.binding.worxlandroid.internal.api.WorxApiDeserializer;
+import org.openhab.binding.worxlandroid.internal.api.dto.Payload;
+import org.openhab.binding.worxlandroid.internal.api.dto.ProductItemStatus;
+import org.openhab.binding.worxlandroid.internal.codes.WorxLandroidErrorCodes;
+import org.openhab.binding.worxlandroid.internal.codes.WorxLandroidStatusCodes;
+import org.openhab.binding.worxlandroid.internal.vo.Mower;
+
+/**
+ * Checks that the simulated mowers go through the states of a real mower and publish statuses the binding decodes.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class MowerFleetTest {
+    private static final ZoneId ZONE = ZoneId.of("Europe/Paris");
+    // A Monday, one hour before the schedule of the first mower starts
+    private static final ZonedDateTime START = ZonedDateTime.of(2023, 6, 26, 8, 0, 0, 0, ZONE);
+
+    private final WorxApiDeserializer deserializer = new WorxApiDeserializer(() -> ZONE);
+    private final List<Payload> published = new ArrayList<>();
+    private final List<String> topics = new ArrayList<>();
+
+    private MowerFleet fleet(int size) {
+        return new MowerFleet(size, START, 600, (topic, message) -> {
+            topics.add(topic);
+            try {
+                published.add(deserializer.deserialize(Payload.class, message));
+            } catch (Exception e) {
+                fail(message, e);
+            }
+        });
+    }
+
+    private Payload last() {
+        assertFalse(published.isEmpty());
+        return published.get(published.size() - 1);
+    }
+
+    @Test
+    public void scheduledSessionGoesThroughTheMowerStates() {
+        MowerFleet fleet = fleet(1);
+        // Up to 15:00, the session scheduled at 09:00 lasts three hours
+        for (int i = 0; i < 7 * 360; i++) {
+            fleet.advance(10);
+        }
+
+        Set<WorxLandroidStatusCodes> statuses = EnumSet.noneOf(WorxLandroidStatusCodes.class);
+        published.forEach(payload -> statuses.add(payload.dat.statusCode));
+        List<WorxLandroidStatusCodes> expected = List.of(HOME, START_SEQUENCE, LEAVING_HOME, BORDER_CUT, MOWING,
+                GOING_HOME, FOLLOW_WIRE);
+        assertTrue(statuses.containsAll(expected), statuses::toString);
+        assertFalse(statuses.contains(UNKNOWN));
+        assertEquals(HOME, last().dat.statusCode);
+        assertEquals("20193018510000000001", last().cfg.serialNumber);
+        assertTrue(topics.stream().allMatch("DB510/F0FE6B000001/commandOut"::equals));
+    }
+
+    @Test
+    public void commandsDriveTheMower() {
+        MowerFleet fleet = fleet(1);
+        SimulatedMower mower = fleet.getMowers().get(0);
+        String commandIn = mower.getCommandIn();
+        fleet.advance(10);
+
+        // A poll is answered with the status
+        int count = published.size();
+        assertTrue(fleet.onCommand(commandIn, "{}"));
+        assertEquals(count + 1, published.size());
+        assertFalse(fleet.onCommand("DB510/unknown/commandIn", "{}"));
+
+        fleet.onCommand(commandIn, "{\"cmd\":1}");
+        assertEquals(START_SEQUENCE, last().dat.statusCode);
+        fleet.advance(60);
+        assertEquals(MOWING, mower.getStatus());
+
+        fleet.onCommand(commandIn, "{\"cmd\":3}");
+        assertEquals(GOING_HOME, last().dat.statusCode);
+        fleet.advance(600);
+        assertEquals(HOME, mower.getStatus());
+
+        fleet.onCommand(commandIn, "{\"cmd\":5}");
+        assertTrue(last().dat.isLocked());
+        fleet.onCommand(commandIn, "{\"cmd\":1}");
+        assertEquals(HOME, mower.getStatus());
+        fleet.onCommand(commandIn, "{\"cmd\":6}");
+
+        fleet.onCommand(commandIn, "{\"rd\":120,\"sc\":{\"m\":2,\"p\":20,\"ots\":{\"bc\":0,\"wtm\":30}}}");
+        assertEquals(120, last().cfg.rainDelay);
+        assertEquals(Payload.Schedule.Mode.PARTY, last().cfg.sc.scheduleMode);
+        assertEquals(20, last().cfg.sc.timeExtension);
+        assertEquals(START_SEQUENCE, last().dat.statusCode);
+        fleet.advance(45 * 60);
+        assertEquals(HOME, mower.getStatus());
+
+        // Malformed commands are ignored, the status is still published
+        count = published.size();
+        fleet.onCommand(commandIn, "{\"cmd\":");
+        assertEquals(count + 1, published.size());
+        assertEquals(WorxLandroidErrorCodes.NO_ERR, last().dat.errorCode);
+    }
+
+    @Test
+    public void productItemsDecodeAsMowers() throws Exception {
+        MowerFleet fleet = fleet(3);
+        ProductItemStatus[] products = deserializer.deserialize(ProductItemStatus[].class,
+                fleet.productItems("localhost:8883").toString());
+
+        assertEquals(3, products.length);
+        for (int i = 0; i < products.length; i++) {
+            ProductItemStatus product = products[i];
+            SimulatedMower simulated = fleet.getMowers().get(i);
+            assertEquals(simulated.getSerialNumber(), product.serialNumber);
+            assertEquals(fleet.getUserId(), product.userId);
+            assertEquals("localhost:8883", product.mqttEndpoint);
+            assertEquals(simulated.getCommandIn(), product.mqttTopics.commandIn);
+            assertEquals(ZONE, product.timeZone);
+
+            Mower mower = new Mower(product);
+            assertEquals(simulated.getCommandOut(), mower.getMqttCommandOut());
+            assertEquals(HOME, product.lastStatus.payload.dat.statusCode);
+        }
+        assertEquals(3, fleet.getAccessToken().split("\\.").length);
+    }
+}
@@ -0,0 +1,653 @@
+/**
+ * Copyright (c) 2010-2023 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.worxlandroid.internal.simulator;
+
+import static org.openhab.binding.worxlandroid.internal.codes.WorxLandroidStatusCodes.*;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.binding.worxlandroid.internal.codes.CodeTable;
+import org.openhab.binding.worxlandroid.internal.codes.WorxLandroidActionCodes;
+import org.openhab.binding.worxlandroid.internal.codes.WorxLandroidErrorCodes;
+import org.openhab.binding.worxlandroid.internal.codes.WorxLandroidStatusCodes;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonPrimitive;
+
+/**
+ * The {@link SimulatedMower} is a virtual Landroid mower. It goes through the states of
+ * {@link WorxLandroidStatusCodes} as a real mower does, following its schedule, the commands received on its
+ * command-in topic, its battery level and random rain or incidents. Time is given by the caller, one step is one
+ * simulated second.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class SimulatedMower {
+    private static final DateTimeFormatter TIME = DateTimeFormatter.ofPattern("HH:mm:ss");
+    private static final DateTimeFormatter DATE = DateTimeFormatter.ofPattern("dd/MM/yyyy");
+    private static final DateTimeFormatter TIMESTAMP = DateTimeFormatter.ofPattern("uuuu-MM-dd HH:mm:ss");
+    private static final String PRODUCT_CODE = "DB510";
+    private static final String FIRMWARE = "3.29";
+    private static final List<String> CAPABILITIES = List.of("digital_fence_cut", "lock", "multi_zone",
+            "one_time_scheduler", "rain_delay", "rain_delay_start", "scheduler_two_slots");
+
+    private static final int START_SEQUENCE_S = 10;
+    private static final int LEAVING_HOME_S = 30;
+    private static final int BORDER_CUT_S = 600;
+    private static final int ZONE_TRAINING_S = 180;
+    private static final int GOING_HOME_S = 20;
+    private static final double DRAIN_PER_S = 100.0 / 5400;
+    private static final double CHARGE_PER_S = 100.0 / 3600;
+    private static final double LOW_BATTERY = 20;
+    private static final double CHARGED_BATTERY = 95;
+    private static final double SPEED_M_S = 0.3;
+    // Mean simulated seconds between two random events
+    private static final int INCIDENT_MEAN_S = 4 * 3600;
+    private static final int RAIN_MEAN_S = 48 * 3600;
+
+    private final int index;
+    private final String serialNumber;
+    private final String macAddress;
+    private final String userId;
+    private final ZoneId zone;
+    private final boolean ultrasonic;
+    private final Random random;
+
+    private WorxLandroidStatusCodes status = HOME;
+    private WorxLandroidErrorCodes error = WorxLandroidErrorCodes.NO_ERR;
+    private boolean changed = true;
+    private int elapsed;
+    private int phaseDuration;
+    private int messageId;
+    private int lastCommand;
+    private boolean locked;
+
+    private double battery;
+    private double temperature = 24;
+    private int chargeCycles;
+    private int chargeCyclesReset;
+    private @Nullable ZonedDateTime chargeCyclesResetAt;
+    private long bladeSeconds;
+    private long bladeReset;
+    private @Nullable ZonedDateTime bladeResetAt;
+    private long workSeconds;
+    private double distance;
+    private double yaw;
+
+    private int scheduleMode = 1;
+    private int timeExtension;
+    private JsonArray slots;
+    private JsonArray secondSlots = defaultSlots("00:00", 0, 0);
+    // End of the work session in epoch seconds, until the battery is low by default
+    private long workUntil = Long.MAX_VALUE;
+    private boolean borderCut;
+    private @Nullable ZonedDateTime borderCutDone;
+    private int[] multiZones = new int[4];
+    private int[] multiZoneAllocations = new int[10];
+    private int alarmLevel;
+    private int alarmDuration = 60;
+
+    private int rainDelay = 60;
+    private int rainRemaining;
+    private int rainDelayRemaining;
+
+    public SimulatedMower(int index, String userId, ZoneId zone, long seed) {
+        this.index = index;
+        this.userId = userId;
+        this.zone = zone;
+        this.serialNumber = "2019301851%010d".formatted(index);
+        this.macAddress = "F0FE6B%06X".formatted(index);
+        this.ultrasonic = index % 2 == 0;
+        // Schedules are spread over the day
+        this.slots = defaultSlots("%02d:00".formatted(8 + index % 8), 180, 1);
+        this.random = new Random(seed + index);
+        this.battery = 60 + random.nextInt(41);
+        this.chargeCycles = 100 + random.nextInt(400);
+        this.workSeconds = (20000 + random.nextInt(60000)) * 60L;
+        this.bladeSeconds = workSeconds * 85 / 100;
+        this.distance = workSeconds * SPEED_M_S;
+    }
+
+    private static JsonArray defaultSlots(String start, int duration, int borderCut) {
+        JsonArray slots = new JsonArray();
+        for (int day = 0; day < 7; day++) {
+            JsonArray slot = new JsonArray();
+            slot.add(start);
+            slot.add(duration);
+            slot.add(borderCut);
+            slots.add(slot);
+        }
+        return slots;
+    }
+
+    public String getSerialNumber() {
+        return serialNumber;
+    }
+
+    public String getCommandIn() {
+        return "%s/%s/commandIn".formatted(PRODUCT_CODE, macAddress);
+    }
+
+    public String getCommandOut() {
+        return "%s/%s/commandOut".formatted(PRODUCT_CODE, macAddress);
+    }
+
+    public synchronized WorxLandroidStatusCodes getStatus() {
+        return status;
+    }
+
+    public synchronized WorxLandroidErrorCodes getError() {
+        return error;
+    }
+
+    public synchronized double getBattery() {
+        return battery;
+    }
+
+    /**
+     * Advances the mower by the given number of simulated seconds
+     *
+     * @param now simulated time at the end of the period
+     * @return true when the status changed in a way a real mower would publish
+     */
+    public synchronized boolean advance(ZonedDateTime now, int seconds) {
+        long end = now.toEpochSecond();
+        for (long time = end - seconds + 1; time <= end; time++) {
+            step(time);
+        }
+        boolean result = changed;
+        changed = false;
+        return result;
+    }
+
+    private void step(long now) {
+        elapsed++;
+        weather();
+        switch (status) {
+            case HOME -> {
+                charge();
+                // Like a real mower, the schedule is checked every minute
+                if (now % 60 == 0 && !locked && battery >= CHARGED_BATTERY && !rainBlocks() && inSchedule(now)) {
+                    enter(START_SEQUENCE);
+                }
+            }
+            case START_SEQUENCE -> {
+                if (elapsed >= START_SEQUENCE_S) {
+                    enter(LEAVING_HOME);
+                }
+            }
+            case LEAVING_HOME -> {
+                move();
+                if (elapsed >= LEAVING_HOME_S) {
+                    enter(borderCut ? BORDER_CUT : MOWING);
+                }
+            }
+            case BORDER_CUT -> {
+                mow();
+                if (elapsed >= BORDER_CUT_S) {
+                    borderCut = false;
+                    enter(MOWING);
+                } else if (mustGoHome(now)) {
+                    enter(GOING_HOME);
+                }
+            }
+            case MOWING -> {
+                mow();
+                if (random.nextInt(INCIDENT_MEAN_S) == 0) {
+                    incident();
+                } else if (mustGoHome(now)) {
+                    enter(GOING_HOME);
+                }
+            }
+            case LIFTED, TRAPPED -> {
+                coolDown();
+                if (elapsed >= phaseDuration) {
+                    setError(WorxLandroidErrorCodes.NO_ERR);
+                    enter(MOWING);
+                }
+            }
+            case ZONE_TRAINING -> {
+                move();
+                if (elapsed >= ZONE_TRAINING_S) {
+                    returnHome();
+                }
+            }
+            case GOING_HOME -> {
+                move();
+                if (elapsed >= GOING_HOME_S) {
+                    enter(SEARCHING_WIRE);
+                    phaseDuration = 15 + random.nextInt(60);
+                }
+            }
+            case SEARCHING_WIRE -> {
+                move();
+                if (elapsed >= phaseDuration) {
+                    enter(FOLLOW_WIRE);
+                    phaseDuration = 60 + random.nextInt(180);
+                }
+            }
+            case FOLLOW_WIRE -> {
+                move();
+                if (elapsed >= phaseDuration) {
+                    enter(HOME);
+                    workUntil = Long.MAX_VALUE;
+                    if (battery < 100) {
+                        chargeCycles++;
+                    }
+                }
+            }
+            default -> coolDown();
+        }
+    }
+
+    private void enter(WorxLandroidStatusCodes newStatus) {
+        status = newStatus;
+        elapsed = 0;
+        changed = true;
+    }
+
+    private void setError(WorxLandroidErrorCodes newError) {
+        changed |= error != newError;
+        error = newError;
+    }
+
+    private void returnHome() {
+        workUntil = Long.MAX_VALUE;
+        enter(GOING_HOME);
+    }
+
+    private void weather() {
+        if (rainRemaining > 0) {
+            if (--rainRemaining == 0) {
+                rainDelayRemaining = rainDelay * 60;
+                changed = true;
+            }
+        } else if (rainDelayRemaining > 0) {
+            rainDelayRemaining--;
+        } else if (random.nextInt(RAIN_MEAN_S) == 0) {
+            rainRemaining = (15 + random.nextInt(45)) * 60;
+            changed = true;
+        }
+        if (status == HOME) {
+            setError(rainBlocks() ? WorxLandroidErrorCodes.RAINING : WorxLandroidErrorCodes.NO_ERR);
+        }
+    }
+
+    private boolean rainBlocks() {
+        return rainRemaining > 0 || rainDelayRemaining > 0;
+    }
+
+    private void charge() {
+        if (battery < 100) {
+            battery = Math.min(100, battery + CHARGE_PER_S);
+            temperature = Math.min(32, temperature + 0.001);
+        } else {
+            coolDown();
+        }
+    }
+
+    private void coolDown() {
+        temperature = Math.max(22, temperature - 0.002);
+    }
+
+    private void move() {
+        battery = Math.max(0, battery - DRAIN_PER_S);
+        temperature = Math.min(38, temperature + 0.002);
+        distance += SPEED_M_S;
+        workSeconds++;
+        if (random.nextInt(30) == 0) {
+            yaw = random.nextInt(3600) / 10.0;
+        }
+    }
+
+    private void mow() {
+        move();
+        bladeSeconds++;
+    }
+
+    private void incident() {
+        boolean lifted = random.nextBoolean();
+        setError(lifted ? WorxLandroidErrorCodes.LIFTED : WorxLandroidErrorCodes.TRAPPED);
+        enter(lifted ? LIFTED : TRAPPED);
+        phaseDuration = 60 + random.nextInt(240);
+    }
+
+    private boolean mustGoHome(long now) {
+        return battery <= LOW_BATTERY || rainRemaining > 0 || now > workUntil;
+    }
+
+    /**
+     * Checks whether a schedule slot is running, sets the end of the work session and the border cut accordingly
+     */
+    private boolean inSchedule(long now) {
+        if (scheduleMode != 1) {
+            return false;
+        }
+        ZonedDateTime local = Instant.ofEpochSecond(now).atZone(zone);
+        // Worx days start on Sunday
+        int day = local.getDayOfWeek().getValue() % 7;
+        for (JsonArray daySlots : List.of(slots, secondSlots)) {
+            if (day < daySlots.size() && daySlots.get(day) instanceof JsonArray slot && slot.size() >= 3) {
+                LocalTime startTime;
+                try {
+                    startTime = LocalTime.parse(slot.get(0).getAsString());
+                } catch (DateTimeParseException e) {
+                    continue;
+                }
+                long minutes = slot.get(1).getAsLong() * (100 + timeExtension) / 100;
+                ZonedDateTime start = local.with(startTime);
+                ZonedDateTime end = start.plusMinutes(minutes);
+                if (minutes > 0 && !local.isBefore(start) && local.isBefore(end)) {
+                    workUntil = end.toEpochSecond();
+                    borderCut = slot.get(2).getAsInt() == 1 && !start.equals(borderCutDone);
+                    if (borderCut) {
+                        borderCutDone = start;
+                    }
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Applies a message received on the command-in topic, a real mower answers any of them, even empty, with its
+     * status.
+     */
+    public synchronized void apply(JsonObject command, ZonedDateTime now) {
+        if (command.get("cmd") instanceof JsonPrimitive cmd) {
+            lastCommand = cmd.getAsInt();
+            action(lastCommand);
+        }
+        if (command.get("rd") instanceof JsonPrimitive rd) {
+            rainDelay = rd.getAsInt();
+        }
+        if (command.get("mz") instanceof JsonArray mz) {
+            multiZones = toInts(mz);
+        }
+        if (command.get("mzv") instanceof JsonArray mzv) {
+            multiZoneAllocations = toInts(mzv);
+        }
+        if (command.get("al") instanceof JsonObject al) {
+            alarmLevel = al.has("lvl") ? al.get("lvl").getAsInt() : alarmLevel;
+            alarmDuration = al.has("t") ? al.get("t").getAsInt() : alarmDuration;
+        }
+        if (command.get("sc") instanceof JsonObject sc) {
+            if (sc.get("m") instanceof JsonPrimitive m) {
+                scheduleMode = m.getAsInt();
+            }
+            if (sc.get("p") instanceof JsonPrimitive p) {
+                timeExtension = p.getAsInt();
+            }
+            if (sc.get("d") instanceof JsonArray d) {
+                slots = d;
+            }
+            if (sc.get("dd") instanceof JsonArray dd) {
+                secondSlots = dd;
+            }
+            if (sc.get("ots") instanceof JsonObject ots && canStart()) {
+                int minutes = ots.get("wtm").getAsInt();
+                workUntil = minutes > 0 ? now.toEpochSecond() + minutes * 60 : Long.MAX_VALUE;
+                borderCut = ots.get("bc").getAsInt() == 1;
+                start();
+            }
+        }
+        changed = true;
+    }
+
+    private void action(int code) {
+        if (code == WorxLandroidActionCodes.START.code && canStart()) {
+            workUntil = Long.MAX_VALUE;
+            start();
+        } else if (code == WorxLandroidActionCodes.STOP.code && status != HOME && status != PAUSE) {
+            enter(PAUSE);
+        } else if (code == WorxLandroidActionCodes.HOME.code && !List.of(HOME, START_SEQUENCE, LIFTED, TRAPPED)
+                .contains(status)) {
+            returnHome();
+        } else if (code == WorxLandroidActionCodes.ZONETRAINING.code && status == HOME && !locked) {
+            enter(ZONE_TRAINING);
+        } else if (code == WorxLandroidActionCodes.LOCK.code) {
+            locked = true;
+        } else if (code == WorxLandroidActionCodes.UNLOCK.code) {
+            locked = false;
+        }
+    }
+
+    private boolean canStart() {
+        return !locked && (status == HOME || status == IDLE || status == PAUSE);
+    }
+
+    private void start() {
+        setError(WorxLandroidErrorCodes.NO_ERR);
+        enter(status == HOME ? START_SEQUENCE : MOWING);
+    }
+
+    private static int[] toInts(JsonArray array) {
+        int[] result = new int[array.size()];
+        for (int i = 0; i < result.length; i++) {
+            result[i] = array.get(i).getAsInt();
+        }
+        return result;
+    }
+
+    private static JsonArray toArray(int... values) {
+        JsonArray array = new JsonArray();
+        for (int value : values) {
+            array.add(value);
+        }
+        return array;
+    }
+
+    private static JsonArray toArray(double... values) {
+        JsonArray array = new JsonArray();
+        for (double value : values) {
+            array.add(value);
+        }
+        return array;
+    }
+
+    private static double round(double value, int decimals) {
+        double factor = Math.pow(10, decimals);
+        return Math.round(value * factor) / factor;
+    }
+
+    /**
+     * Builds the status published on the command-out topic
+     */
+    public synchronized JsonObject payload(ZonedDateTime now) {
+        ZonedDateTime local = now.withZoneSameInstant(zone);
+
+        JsonObject ots = new JsonObject();
+        ots.addProperty("bc", borderCut ? 1 : 0);
+        ots.addProperty("wtm", 0);
+        JsonObject sc = new JsonObject();
+        sc.addProperty("m", scheduleMode);
+        sc.addProperty("distm", 0);
+        sc.add("ots", ots);
+        sc.addProperty("p", timeExtension);
+        sc.add("d", slots.deepCopy());
+        sc.add("dd", secondSlots.deepCopy());
+        JsonObject al = new JsonObject();
+        al.addProperty("lvl", alarmLevel);
+        al.addProperty("t", alarmDuration);
+
+        JsonObject cfg = new JsonObject();
+        cfg.addProperty("id", messageId++);
+        cfg.addProperty("lg", "fr");
+        cfg.addProperty("tm", local.format(TIME));
+        cfg.addProperty("dt", local.format(DATE));
+        cfg.add("sc", sc);
+        cfg.addProperty("cmd", lastCommand);
+        cfg.add("mz", toArray(multiZones));
+        cfg.add("mzv", toArray(multiZoneAllocations));
+        cfg.addProperty("mzk", 0);
+        cfg.addProperty("rd", rainDelay);
+        cfg.addProperty("sn", serialNumber);
+        cfg.add("al", al);
+        cfg.addProperty("tq", 0);
+
+        boolean charging = status == HOME && battery < 100;
+        JsonObject bt = new JsonObject();
+        bt.addProperty("t", round(temperature, 1));
+        bt.addProperty("v", round(18 + battery * 0.025, 2));
+        bt.addProperty("p", (int) battery);
+        bt.addProperty("nr", chargeCycles);
+        bt.addProperty("c", charging ? 1 : 0);
+        bt.addProperty("m", 0);
+        JsonObject st = new JsonObject();
+        st.addProperty("b", bladeSeconds / 60);
+        st.addProperty("d", (long) distance);
+        st.addProperty("wt", workSeconds / 60);
+        st.addProperty("bl", -1);
+        JsonObject rain = new JsonObject();
+        rain.addProperty("s", rainRemaining > 0 ? 1 : 0);
+        rain.addProperty("cnt", (rainDelayRemaining + 59) / 60);
+
+        JsonObject dat = new JsonObject();
+        dat.addProperty("mac", macAddress);
+        dat.addProperty("fw", Double.parseDouble(FIRMWARE));
+        dat.addProperty("fwb", 1);
+        dat.addProperty("ls", CodeTable.STATUS_CODES.code(status));
+        dat.addProperty("le", CodeTable.ERROR_CODES.code(error));
+        dat.addProperty("conn", "wifi");
+        dat.add("bt", bt);
+        boolean moving = status != HOME && status != IDLE && status != PAUSE;
+        dat.add("dmp", toArray(moving ? round(random.nextGaussian() * 2, 1) : 0,
+                moving ? round(random.nextGaussian() * 2, 1) : 0, yaw));
+        dat.add("st", st);
+        dat.addProperty("lz", 0);
+        dat.addProperty("rsi", -50 - index % 40);
+        dat.addProperty("lk", locked ? 1 : 0);
+        dat.addProperty("act", 1);
+        dat.addProperty("tr", 0);
+        dat.add("rain", rain);
+
+        if (ultrasonic) {
+            JsonObject enabled = new JsonObject();
+            enabled.addProperty("enabled", 1);
+            JsonObject us = new JsonObject();
+            us.add("US", enabled);
+            cfg.add("modules", us);
+            JsonObject stat = new JsonObject();
+            stat.addProperty("stat", "ok");
+            JsonObject usStat = new JsonObject();
+            usStat.add("US", stat);
+            dat.add("modules", usStat);
+        }
+
+        JsonObject payload = new JsonObject();
+        payload.add("cfg", cfg);
+        payload.add("dat", dat);
+        return payload;
+    }
+
+    /**
+     * Builds the description of the mower returned by the product-items endpoint
+     */
+    public synchronized JsonObject productItem(String mqttEndpoint, ZonedDateTime now) {
+        String utcNow = now.withZoneSameInstant(ZoneOffset.UTC).format(TIMESTAMP);
+        String created = "2022-04-01 10:00:00";
+
+        JsonObject item = new JsonObject();
+        item.addProperty("id", index);
+        item.addProperty("uuid", UUID.nameUUIDFromBytes(serialNumber.getBytes(StandardCharsets.UTF_8)).toString());
+        item.addProperty("product_id", 48);
+        item.addProperty("user_id", userId);
+        item.addProperty("serial_number", serialNumber);
+        item.addProperty("mac_address", macAddress);
+        item.addProperty("name", "Mower %d".formatted(index));
+        item.addProperty("locked", locked);
+        item.addProperty("firmware_version", FIRMWARE);
+        item.addProperty("firmware_auto_upgrade", true);
+        item.addProperty("push_notifications", true);
+        item.addProperty("push_notifications_level", "warning");
+        item.addProperty("test", false);
+        item.addProperty("iot_registered", true);
+        item.addProperty("mqtt_registered", true);
+        item.addProperty("pin_code", "1234");
+        item.addProperty("registered_at", "2022-04-01");
+        item.addProperty("online", true);
+        item.addProperty("mqtt_endpoint", mqttEndpoint);
+        JsonObject appSettings = new JsonObject();
+        appSettings.addProperty("cellular_setup_completed", false);
+        item.add("app_settings", appSettings);
+        item.addProperty("protocol", 0);
+        JsonArray capabilities = new JsonArray();
+        CAPABILITIES.forEach(capabilities::add);
+        item.add("capabilities", capabilities);
+        item.add("capabilities_available", new JsonArray());
+        JsonObject accessories = new JsonObject();
+        accessories.addProperty("ultrasonic", ultrasonic);
+        item.add("accessories", accessories);
+        JsonObject topics = new JsonObject();
+        topics.addProperty("command_in", getCommandIn());
+        topics.addProperty("command_out", getCommandOut());
+        item.add("mqtt_topics", topics);
+        item.addProperty("warranty_registered", true);
+        item.addProperty("purchased_at", "2022-03-28");
+        item.addProperty("warranty_expires_at", "2025-03-28");
+        JsonObject location = new JsonObject();
+        location.addProperty("latitude", round(48.8566 + index % 100 * 0.001, 4));
+        location.addProperty("longitude", round(2.3522 + index / 100 * 0.001, 4));
+        item.add("setup_location", location);
+        item.addProperty("time_zone", zone.getId());
+        item.addProperty("lawn_size", 500.0);
+        item.addProperty("lawn_perimeter", 112.5);
+        item.addProperty("auto_schedule", false);
+        item.addProperty("improvement", true);
+        item.addProperty("diagnostic", true);
+        item.addProperty("distance_covered", (long) distance);
+        item.addProperty("mower_work_time", workSeconds / 60);
+        item.addProperty("blade_work_time", bladeSeconds / 60);
+        item.addProperty("blade_work_time_reset", bladeReset);
+        ZonedDateTime bladeAt = bladeResetAt;
+        item.addProperty("blade_work_time_reset_at",
+                bladeAt != null ? bladeAt.withZoneSameInstant(ZoneOffset.UTC).format(TIMESTAMP) : null);
+        item.addProperty("battery_charge_cycles", chargeCycles);
+        item.addProperty("battery_charge_cycles_reset", chargeCyclesReset);
+        ZonedDateTime cyclesAt = chargeCyclesResetAt;
+        item.addProperty("battery_charge_cycles_reset_at",
+                cyclesAt != null ? cyclesAt.withZoneSameInstant(ZoneOffset.UTC).format(TIMESTAMP) : null);
+        item.addProperty("created_at", created);
+        item.addProperty("updated_at", utcNow);
+        JsonObject lastStatus = new JsonObject();
+        lastStatus.addProperty("timestamp", utcNow);
+        lastStatus.add("payload", payload(now));
+        item.add("last_status", lastStatus);
+        return item;
+    }
+
+    public synchronized void resetBladeTime(ZonedDateTime now) {
+        bladeReset = bladeSeconds / 60;
+        bladeResetAt = now;
+    }
+
+    public synchronized void resetChargeCycles(ZonedDateTime now) {
+        chargeCyclesReset = chargeCycles;
+        chargeCyclesResetAt = now;
+    }
+}
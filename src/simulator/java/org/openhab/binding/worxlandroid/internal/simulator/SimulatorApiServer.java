@@ -0,0 +1,138 @@
+/**
+ * Copyright (c) 2010-2023 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.worxlandroid.internal.simulator;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jetty.http.HttpHeader;
+import org.eclipse.jetty.http.HttpMethod;
+import org.eclipse.jetty.http.HttpStatus;
+import org.eclipse.jetty.server.Request;
+import org.eclipse.jetty.server.Server;
+import org.eclipse.jetty.server.ServerConnector;
+import org.eclipse.jetty.server.handler.AbstractHandler;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.google.gson.JsonObject;
+
+/**
+ * The {@link SimulatorApiServer} is a Jetty stub of the Worx web API, serving the token, users/me and product-items
+ * requests of the binding from a {@link MowerFleet}. All paths are below /api/v2/, including oauth/token, so that
+ * the apiUrl configuration of the binding is enough to redirect it.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class SimulatorApiServer implements AutoCloseable {
+    private static final String API_PATH = "/api/v2/";
+    private static final Pattern COUNTER_RESET = Pattern.compile("product-items/(\\w+)/counters/(blade|battery)/reset");
+    private static final String JSON = "application/json";
+
+    private final Logger logger = LoggerFactory.getLogger(SimulatorApiServer.class);
+    private final MowerFleet fleet;
+    private final String mqttEndpoint;
+    private final Server server;
+
+    /**
+     * @param port the HTTP port, 0 for any free port
+     * @param mqttEndpoint the endpoint announced to the binding in the product items
+     */
+    public SimulatorApiServer(int port, MowerFleet fleet, String mqttEndpoint) throws Exception {
+        this.fleet = fleet;
+        this.mqttEndpoint = mqttEndpoint;
+        this.server = new Server(port);
+        server.setHandler(new ApiHandler());
+        server.start();
+    }
+
+    public String getApiUrl() {
+        int port = ((ServerConnector) server.getConnectors()[0]).getLocalPort();
+        return "http://localhost:%d%s".formatted(port, API_PATH);
+    }
+
+    @Override
+    public void close() throws Exception {
+        server.stop();
+    }
+
+    private class ApiHandler extends AbstractHandler {
+        @Override
+        public void handle(@NonNullByDefault({}) String target, @NonNullByDefault({}) Request baseRequest,
+                @NonNullByDefault({}) HttpServletRequest request, @NonNullByDefault({}) HttpServletResponse response)
+                throws IOException {
+            baseRequest.setHandled(true);
+            String path = target.startsWith(API_PATH) ? target.substring(API_PATH.length()) : "";
+            boolean post = HttpMethod.POST.is(request.getMethod());
+            Matcher counterReset = COUNTER_RESET.matcher(path);
+            logger.debug("{} {}", request.getMethod(), target);
+
+            if (post && "oauth/token".equals(path)) {
+                reply(response, token());
+                return;
+            }
+            if (!("Bearer " + fleet.getAccessToken()).equals(request.getHeader(HttpHeader.AUTHORIZATION.asString()))) {
+                response.sendError(HttpStatus.UNAUTHORIZED_401);
+                return;
+            }
+            if (!post && "users/me".equals(path)) {
+                reply(response, fleet.me().toString());
+            } else if (!post && "product-items".equals(path)) {
+                reply(response, fleet.productItems(mqttEndpoint).toString());
+            } else if (post && counterReset.matches()) {
+                resetCounter(response, counterReset.group(1), "blade".equals(counterReset.group(2)));
+            } else {
+                response.sendError(HttpStatus.NOT_FOUND_404);
+            }
+        }
+
+        private void resetCounter(HttpServletResponse response, String serialNumber, boolean blade)
+                throws IOException {
+            SimulatedMower mower = fleet.getMower(serialNumber);
+            if (mower == null) {
+                response.sendError(HttpStatus.NOT_FOUND_404);
+            } else {
+                if (blade) {
+                    mower.resetBladeTime(fleet.now());
+                } else {
+                    mower.resetChargeCycles(fleet.now());
+                }
+                reply(response, "{}");
+            }
+        }
+
+        private String token() {
+            JsonObject token = new JsonObject();
+            token.addProperty("access_token", fleet.getAccessToken());
+            token.addProperty("token_type", "Bearer");
+            token.addProperty("expires_in", 3600);
+            token.addProperty("refresh_token", "simulated-refresh-token");
+            token.addProperty("scope", "*");
+            return token.toString();
+        }
+
+        private void reply(HttpServletResponse response, String body) throws IOException {
+            response.setStatus(HttpStatus.OK_200);
+            response.setContentType(JSON);
+            response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+            response.getWriter().write(body);
+        }
+    }
+}
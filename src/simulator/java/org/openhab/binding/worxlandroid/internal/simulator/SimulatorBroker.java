@@ -0,0 +1,109 @@
+/**
+ * Copyright (c) 2010-2023 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.worxlandroid.internal.simulator;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Properties;
+import java.util.function.BiConsumer;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import io.moquette.broker.Server;
+import io.moquette.broker.config.MemoryConfig;
+import io.moquette.interception.AbstractInterceptHandler;
+import io.moquette.interception.messages.InterceptPublishMessage;
+import io.netty.buffer.Unpooled;
+import io.netty.handler.codec.mqtt.MqttMessageBuilders;
+import io.netty.handler.codec.mqtt.MqttPublishMessage;
+import io.netty.handler.codec.mqtt.MqttQoS;
+
+/**
+ * The {@link SimulatorBroker} is an embedded MQTT broker standing for the Worx AWS IoT endpoint. The binding connects
+ * to it through secure websockets, as to AWS, the custom authorizer headers are ignored. Messages published on the
+ * command-in topics are handed to the command handler.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class SimulatorBroker implements AutoCloseable {
+    private static final String CLIENT_ID = "landroid-simulator";
+    private static final String DISABLED = "disabled";
+
+    private final Logger logger = LoggerFactory.getLogger(SimulatorBroker.class);
+    private final Server server = new Server();
+
+    /**
+     * @param host the interface the broker listens on
+     * @param securePort port of the secure websocket listener used by the binding
+     * @param plainPort port of a plain TCP listener to watch the traffic with any MQTT client, 0 to disable it
+     * @param keyStore path of the key store holding the certificate presented to the binding
+     * @param keyStoreType type of the key store, jks or pkcs12
+     * @param password password of the key store and of its key
+     * @param commandHandler receives the topic and content of the messages published by the binding
+     */
+    public SimulatorBroker(String host, int securePort, int plainPort, String keyStore, String keyStoreType,
+            String password, BiConsumer<String, String> commandHandler) throws IOException {
+        Properties properties = new Properties();
+        properties.setProperty("host", host);
+        properties.setProperty("port", plainPort > 0 ? Integer.toString(plainPort) : DISABLED);
+        properties.setProperty("secure_websocket_port", Integer.toString(securePort));
+        properties.setProperty("jks_path", keyStore);
+        properties.setProperty("key_store_type", keyStoreType);
+        properties.setProperty("key_store_password", password);
+        properties.setProperty("key_manager_password", password);
+        properties.setProperty("allow_anonymous", "true");
+        properties.setProperty("persistence_enabled", "false");
+        server.startServer(new MemoryConfig(properties), List.of(new CommandInterceptor(commandHandler)));
+    }
+
+    public void publish(String topic, String message) {
+        MqttPublishMessage publish = MqttMessageBuilders.publish().topicName(topic).retained(false)
+                .qos(MqttQoS.AT_MOST_ONCE).payload(Unpooled.copiedBuffer(message, StandardCharsets.UTF_8)).build();
+        server.internalPublish(publish, CLIENT_ID);
+    }
+
+    @Override
+    public void close() {
+        server.stopServer();
+    }
+
+    private class CommandInterceptor extends AbstractInterceptHandler {
+        private final BiConsumer<String, String> commandHandler;
+
+        CommandInterceptor(BiConsumer<String, String> commandHandler) {
+            this.commandHandler = commandHandler;
+        }
+
+        @Override
+        public String getID() {
+            return CLIENT_ID;
+        }
+
+        @Override
+        public void onPublish(@NonNullByDefault({}) InterceptPublishMessage message) {
+            // Messages published by the simulator itself are notified too
+            if (!CLIENT_ID.equals(message.getClientID())) {
+                commandHandler.accept(message.getTopicName(), message.getPayload().toString(StandardCharsets.UTF_8));
+            }
+        }
+
+        @Override
+        public void onSessionLoopError(@NonNullByDefault({}) Throwable error) {
+            logger.warn("Broker session loop error: {}", error.getMessage());
+        }
+    }
+}
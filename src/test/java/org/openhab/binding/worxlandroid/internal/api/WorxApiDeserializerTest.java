@@ -0,0 +1,207 @@
+/**
+ * Copyright (c) 2010-2023 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.worxlandroid.internal.api;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.reflect.Type;
+import java.nio.charset.StandardCharsets;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.openhab.binding.worxlandroid.internal.api.dto.Payload;
+import org.openhab.binding.worxlandroid.internal.api.dto.Payload.Schedule;
+import org.openhab.binding.worxlandroid.internal.api.dto.ProductItemStatus;
+import org.openhab.binding.worxlandroid.internal.codes.WorxLandroidErrorCodes;
+import org.openhab.binding.worxlandroid.internal.codes.WorxLandroidStatusCodes;
+
+import com.google.gson.FieldNamingPolicy;
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonDeserializer;
+import com.google.gson.JsonPrimitive;
+import com.google.gson.JsonSerializer;
+import com.google.gson.annotations.SerializedName;
+
+/**
+ * Checks that the streaming adapters of {@link WorxApiDeserializer} decode recorded payloads exactly as the reflective
+ * Gson configuration they replaced.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class WorxApiDeserializerTest {
+    private static final ZoneId ZONE = ZoneId.of("Europe/Paris");
+    private static final DateTimeFormatter WORX_FORMATTER = DateTimeFormatter.ofPattern("uuuu-MM-dd HH:mm:ssX");
+
+    /*
+     * Former configuration, without the type adapter factory. Worx 0/1 flags used to be Boolean fields decoded by a
+     * custom deserializer, true/false ones primitive fields decoded by Gson: both are now primitive fields.
+     */
+    private static final Gson REFLECTIVE = new GsonBuilder()
+            .setFieldNamingPolicy(FieldNamingPolicy.LOWER_CASE_WITH_UNDERSCORES)
+            .registerTypeAdapter(ZoneId.class,
+                    (JsonDeserializer<ZoneId>) (json, type, context) -> ZoneId
+                            .of(json.getAsJsonPrimitive().getAsString()))
+            .registerTypeAdapter(ZonedDateTime.class,
+                    (JsonDeserializer<ZonedDateTime>) (json, type, context) -> ZonedDateTime
+                            .parse(json.getAsJsonPrimitive().getAsString() + "Z", WORX_FORMATTER)
+                            .withZoneSameInstant(ZONE))
+            .registerTypeAdapter(boolean.class, (JsonDeserializer<Boolean>) (json, type, context) -> {
+                JsonPrimitive value = json.getAsJsonPrimitive();
+                return value.isBoolean() ? value.getAsBoolean() : "1".equals(value.getAsString());
+            }).create();
+
+    // Dumps every field of the decoded objects, including those without getter
+    private static final Gson DUMP = new GsonBuilder().serializeNulls()
+            .registerTypeAdapter(ZonedDateTime.class,
+                    (JsonSerializer<ZonedDateTime>) (src, type, context) -> new JsonPrimitive(src.toString()))
+            .registerTypeHierarchyAdapter(ZoneId.class,
+                    (JsonSerializer<ZoneId>) (src, type, context) -> new JsonPrimitive(src.getId()))
+            .create();
+
+    private final WorxApiDeserializer deserializer = new WorxApiDeserializer(() -> ZONE);
+
+    private static byte[] load(String name) throws IOException {
+        try (InputStream stream = Payload.class.getResourceAsStream(name)) {
+            assertNotNull(stream, name);
+            return stream.readAllBytes();
+        }
+    }
+
+    private void assertSameDecoding(Type type, String json) throws WebApiException {
+        Object expected = REFLECTIVE.fromJson(json, type);
+        Object actual = deserializer.deserialize(type, json);
+        assertEquals(DUMP.toJsonTree(expected), DUMP.toJsonTree(actual));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = { "payload-mowing.json", "payload-home.json", "payload-error.json" })
+    public void payloadDecodesAsReflectiveGson(String name) throws Exception {
+        String json = new String(load(name), StandardCharsets.UTF_8);
+        assertSameDecoding(Payload.class, json);
+
+        // Decoding from bytes must not differ from decoding from a String
+        Payload fromBytes = deserializer.deserialize(Payload.class, load(name));
+        assertEquals(DUMP.toJsonTree(deserializer.deserialize(Payload.class, json)), DUMP.toJsonTree(fromBytes));
+    }
+
+    @Test
+    public void productItemsDecodeAsReflectiveGson() throws Exception {
+        String json = new String(load("product-items.json"), StandardCharsets.UTF_8);
+        assertSameDecoding(ProductItemStatus[].class, json);
+
+        // API responses are decoded from the received stream
+        try (InputStream stream = new ByteArrayInputStream(load("product-items.json"))) {
+            ProductItemStatus[] fromStream = deserializer.deserialize(ProductItemStatus[].class, stream);
+            assertEquals(DUMP.toJsonTree(deserializer.deserialize(ProductItemStatus[].class, json)),
+                    DUMP.toJsonTree(fromStream));
+        }
+    }
+
+    @Test
+    public void goldenPayloadValues() throws Exception {
+        Payload mowing = deserializer.deserialize(Payload.class, load("payload-mowing.json"));
+        assertEquals(WorxLandroidStatusCodes.MOWING, mowing.dat.statusCode);
+        assertEquals(WorxLandroidErrorCodes.NO_ERR, mowing.dat.errorCode);
+        assertEquals(Schedule.Mode.NORMAL, mowing.cfg.sc.scheduleMode);
+        assertEquals(78, mowing.dat.battery.level);
+        assertFalse(mowing.dat.battery.charging);
+        assertFalse(mowing.dat.rain.raining);
+        assertEquals(147.3, mowing.dat.getAngle(Payload.Dat.Axis.YAW));
+        assertArrayEquals(new int[] { 0, 0, 0, 0 }, mowing.cfg.multiZones);
+        assertEquals(List.of("10:00", "180", "1"), mowing.cfg.sc.d.get(0));
+        assertEquals("3.29", mowing.dat.fw);
+
+        Payload home = deserializer.deserialize(Payload.class, load("payload-home.json"));
+        assertEquals(WorxLandroidStatusCodes.HOME, home.dat.statusCode);
+        assertEquals(Schedule.Mode.PARTY, home.cfg.sc.scheduleMode);
+        assertTrue(home.dat.battery.charging);
+        assertTrue(home.dat.rain.raining);
+        assertTrue(home.dat.isLocked());
+        assertTrue(home.cfg.sc.ots.getEdgeCut());
+        assertArrayEquals(new int[] { 0, 0, 1, 1, 0, 2, 0, 0, 1, 0 }, home.cfg.multizoneAllocations);
+
+        Payload error = deserializer.deserialize(Payload.class, load("payload-error.json"));
+        assertEquals(WorxLandroidStatusCodes.LIFTED, error.dat.statusCode);
+        assertEquals(WorxLandroidErrorCodes.LIFTED, error.dat.errorCode);
+        assertNull(error.dat.rain);
+        assertNull(error.cfg.sc.dd);
+    }
+
+    @Test
+    public void everyDeclaredCodeDecodesAsReflectiveGson() throws Exception {
+        for (WorxLandroidStatusCodes status : WorxLandroidStatusCodes.values()) {
+            String code = code(WorxLandroidStatusCodes.class, status);
+            if (code != null) {
+                Payload.Dat dat = deserializer.deserialize(Payload.Dat.class, "{\"ls\":%s}".formatted(code));
+                assertEquals(REFLECTIVE.fromJson("{\"ls\":%s}".formatted(code), Payload.Dat.class).statusCode,
+                        dat.statusCode, code);
+                assertEquals(status, dat.statusCode);
+            }
+        }
+        for (WorxLandroidErrorCodes error : WorxLandroidErrorCodes.values()) {
+            String code = code(WorxLandroidErrorCodes.class, error);
+            if (code != null) {
+                Payload.Dat dat = deserializer.deserialize(Payload.Dat.class, "{\"le\":%s}".formatted(code));
+                assertEquals(REFLECTIVE.fromJson("{\"le\":%s}".formatted(code), Payload.Dat.class).errorCode,
+                        dat.errorCode, code);
+                assertEquals(error, dat.errorCode);
+            }
+        }
+        for (Schedule.Mode mode : Schedule.Mode.values()) {
+            String code = code(Schedule.Mode.class, mode);
+            if (code != null) {
+                Schedule schedule = deserializer.deserialize(Schedule.class, "{\"m\":%s}".formatted(code));
+                assertEquals(REFLECTIVE.fromJson("{\"m\":%s}".formatted(code), Schedule.class).scheduleMode,
+                        schedule.scheduleMode, code);
+            }
+        }
+    }
+
+    @Test
+    public void undeclaredCodeDecodesAsUnknown() throws Exception {
+        // The reflective adapter used to leave a null value, the field default is kept instead
+        Payload.Dat dat = deserializer.deserialize(Payload.Dat.class, "{\"ls\":57,\"le\":-3}");
+        assertEquals(WorxLandroidStatusCodes.UNKNOWN, dat.statusCode);
+        assertEquals(WorxLandroidErrorCodes.UNKNOWN, dat.errorCode);
+    }
+
+    @Test
+    public void nutritionKeepsNullValues() throws Exception {
+        String json = "{\"nutrition\":{\"n\":\"10\",\"p\":null}}";
+        ProductItemStatus.AutoSchedule autoSchedule = deserializer.deserialize(ProductItemStatus.AutoSchedule.class,
+                json);
+        assertEquals(REFLECTIVE.fromJson(json, ProductItemStatus.AutoSchedule.class).nutrition,
+                autoSchedule.nutrition);
+        Map<String, String> nutrition = autoSchedule.nutrition;
+        assertTrue(nutrition.containsKey("p"));
+    }
+
+    private static <E extends Enum<E>> @Nullable String code(Class<E> enumClass, E constant)
+            throws NoSuchFieldException {
+        SerializedName annotation = enumClass.getField(constant.name()).getAnnotation(SerializedName.class);
+        return annotation != null ? annotation.value() : null;
+    }
+}
@@ -0,0 +1,254 @@
+/**
+ * Copyright (c) 2010-2023 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.worxlandroid.internal.mqtt;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import software.amazon.awssdk.crt.mqtt.MqttClientConnection;
+import software.amazon.awssdk.crt.mqtt.MqttClientConnectionEvents;
+import software.amazon.awssdk.crt.mqtt.MqttMessage;
+import software.amazon.awssdk.crt.mqtt.OnConnectionFailureReturn;
+import software.amazon.awssdk.crt.mqtt.OnConnectionSuccessReturn;
+import software.amazon.awssdk.crt.mqtt.QualityOfService;
+
+/**
+ * Stress tests of the {@link AWSClient} subscriptions and connection swap, run against fake connections.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class AWSClientTest {
+    private static final int THREADS = 8;
+    private static final int TOPICS_PER_THREAD = 200;
+    private static final int RECONNECTIONS = 500;
+
+    private final List<MqttClientConnection> connections = new CopyOnWriteArrayList<>();
+    private final Map<MqttClientConnection, Set<String>> subscribed = new ConcurrentHashMap<>();
+    private final Map<MqttClientConnection, MqttClientConnectionEvents> events = new ConcurrentHashMap<>();
+    private final AWSClientCallbackI callback = mock(AWSClientCallbackI.class);
+    private final ExecutorService executor = Executors.newFixedThreadPool(THREADS + 2);
+
+    private @NonNullByDefault({}) AWSClient client;
+
+    @BeforeEach
+    public void setUp() {
+        connections.clear();
+        subscribed.clear();
+        events.clear();
+        client = new AWSClient(callback, this::createConnection);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        executor.shutdownNow();
+    }
+
+    private synchronized MqttClientConnection createConnection(String endpoint, String userId, String clientUuid,
+            String token, MqttClientConnectionEvents events) {
+        MqttClientConnection connection = mock(MqttClientConnection.class);
+        Set<String> topics = ConcurrentHashMap.newKeySet();
+        subscribed.put(connection, topics);
+        this.events.put(connection, events);
+        when(connection.connect()).thenReturn(CompletableFuture.completedFuture(false));
+        when(connection.subscribe(anyString(), any(QualityOfService.class), any())).thenAnswer(invocation -> {
+            topics.add(invocation.getArgument(0));
+            return CompletableFuture.completedFuture(1);
+        });
+        when(connection.unsubscribe(anyString())).thenReturn(CompletableFuture.completedFuture(1));
+        when(connection.publish(any(MqttMessage.class))).thenReturn(CompletableFuture.completedFuture(1));
+        when(connection.disconnect()).thenReturn(CompletableFuture.completedFuture(null));
+        connections.add(connection);
+        return connection;
+    }
+
+    private void connect() {
+        client.connect("endpoint", "user", "uuid", "header.payload.signature");
+    }
+
+    private void established(MqttClientConnection connection, boolean sessionPresent) {
+        OnConnectionSuccessReturn data = mock(OnConnectionSuccessReturn.class);
+        when(data.getSessionPresent()).thenReturn(sessionPresent);
+        events.get(connection).onConnectionSuccess(data);
+    }
+
+    private void failed(MqttClientConnection connection, int errorCode) {
+        OnConnectionFailureReturn data = mock(OnConnectionFailureReturn.class);
+        when(data.getErrorCode()).thenReturn(errorCode);
+        events.get(connection).onConnectionFailure(data);
+    }
+
+    @Test
+    public void subscriptionsSurviveConcurrentReconnectAndClose() throws Exception {
+        Consumer<MqttMessage> handler = message -> {
+        };
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> tasks = new ArrayList<>();
+
+        for (int thread = 0; thread < THREADS; thread++) {
+            int first = thread * TOPICS_PER_THREAD;
+            tasks.add(executor.submit(() -> {
+                start.await();
+                for (int topic = first; topic < first + TOPICS_PER_THREAD; topic++) {
+                    client.subscribe("topic/" + topic, handler);
+                }
+                return null;
+            }));
+        }
+        tasks.add(executor.submit(() -> {
+            start.await();
+            for (int i = 0; i < RECONNECTIONS; i++) {
+                connect();
+                // Alternate brokers keeping and losing the session, both must lead to a resubscription
+                established(connections.get(connections.size() - 1), i % 2 == 0);
+            }
+            return null;
+        }));
+        tasks.add(executor.submit(() -> {
+            start.await();
+            for (int i = 0; i < RECONNECTIONS / 10; i++) {
+                client.disconnect();
+                Thread.sleep(1);
+            }
+            return null;
+        }));
+
+        start.countDown();
+        for (Future<?> task : tasks) {
+            task.get(30, TimeUnit.SECONDS);
+        }
+
+        connect();
+        MqttClientConnection current = connections.get(connections.size() - 1);
+        established(current, false);
+
+        Set<String> expected = IntStream.range(0, THREADS * TOPICS_PER_THREAD).mapToObj(topic -> "topic/" + topic)
+                .collect(Collectors.toSet());
+        assertTrue(client.isConnected());
+        assertEquals(expected, subscribed.get(current));
+
+        // Each replaced or disconnected connection is closed exactly once, the current one stays open
+        for (MqttClientConnection connection : connections) {
+            verify(connection, times(connection == current ? 0 : 1)).close();
+        }
+
+        client.dispose();
+        verify(current, times(1)).close();
+        assertFalse(client.isActive());
+        assertFalse(client.isConnected());
+        assertFalse(client.hasSubscriptions());
+    }
+
+    @Test
+    public void subscriptionIsDelayedUntilConnectionIsEstablished() {
+        connect();
+        MqttClientConnection connection = connections.get(0);
+        client.subscribe("topic", message -> {
+        });
+        assertTrue(subscribed.get(connection).isEmpty());
+
+        established(connection, false);
+        assertEquals(Set.of("topic"), subscribed.get(connection));
+        verify(callback).onAWSConnectionSuccess();
+    }
+
+    @Test
+    public void resumedConnectionIsHandledOnce() {
+        client.subscribe("topic", message -> {
+        });
+        connect();
+        MqttClientConnection connection = connections.get(0);
+
+        // The client reports a resumed connection with both events
+        events.get(connection).onConnectionResumed(true);
+        established(connection, true);
+
+        verify(connection, times(1)).subscribe(eq("topic"), any(QualityOfService.class), any());
+        verify(callback, times(1)).onAWSConnectionSuccess();
+    }
+
+    @Test
+    public void eventsOfReplacedConnectionAreIgnored() {
+        client.subscribe("topic", message -> {
+        });
+        connect();
+        MqttClientConnection replaced = connections.get(0);
+        connect();
+        MqttClientConnection current = connections.get(1);
+        established(current, false);
+
+        // The replaced connection reports its closing after the swap
+        failed(replaced, 5134);
+        failed(replaced, 0);
+        events.get(replaced).onConnectionInterrupted(0);
+        established(replaced, false);
+
+        assertTrue(client.isConnected());
+        assertTrue(subscribed.get(replaced).isEmpty());
+        assertEquals(Set.of("topic"), subscribed.get(current));
+        verify(callback, times(1)).onAWSConnectionSuccess();
+        verify(callback, never()).onAWSConnectionFailed(any());
+        verify(callback, never()).onAWSConnectionClosed();
+    }
+
+    @Test
+    public void concurrentConnectsLeaveSingleOpenConnection() throws Exception {
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> tasks = new ArrayList<>();
+        for (int thread = 0; thread < THREADS; thread++) {
+            tasks.add(executor.submit(() -> {
+                start.await();
+                for (int i = 0; i < RECONNECTIONS / THREADS; i++) {
+                    connect();
+                }
+                return null;
+            }));
+        }
+        start.countDown();
+        for (Future<?> task : tasks) {
+            task.get(30, TimeUnit.SECONDS);
+        }
+
+        long open = connections.stream().filter(connection -> mockingDetails(connection).getInvocations().stream()
+                .noneMatch(invocation -> "close".equals(invocation.getMethod().getName()))).count();
+        assertEquals(1, open);
+        assertTrue(client.isActive());
+
+        client.disconnect();
+        for (MqttClientConnection connection : connections) {
+            verify(connection, times(1)).close();
+        }
+    }
+}